@@ -0,0 +1,56 @@
+package reviewme.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import reviewme.reviewgroup.domain.ReviewGroup;
+import reviewme.reviewgroup.service.cache.ReviewGroupSnapshot;
+import reviewme.util.Encoder;
+
+// 인증이 필요한 조회마다 한 번씩 일어나는 접근 코드 비교 비용을 이전 구현과 비교한다.
+// -prof gc 로 실행하면 호출당 할당량 차이도 볼 수 있다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EncoderBenchmark {
+
+    private final String groupAccessCode = ReviewFixture.GROUP_ACCESS_CODE;
+    private final String encodedGroupAccessCode = Encoder.encode(groupAccessCode);
+    private final ReviewGroupSnapshot reviewGroup = ReviewGroupSnapshot.from(
+            new ReviewGroup("benchmarkReviewee", "benchmarkProject", "benchmarkRequestCode", groupAccessCode)
+    );
+
+    @Benchmark
+    public String encode() {
+        return Encoder.encode(groupAccessCode);
+    }
+
+    @Benchmark
+    public boolean matchesGroupAccessCode() {
+        return reviewGroup.matchesGroupAccessCode(groupAccessCode);
+    }
+
+    @Benchmark
+    public boolean legacyMatchesGroupAccessCode() throws NoSuchAlgorithmException {
+        return encodedGroupAccessCode.equals(legacyEncode(groupAccessCode));
+    }
+
+    // 요청마다 MessageDigest 를 찾고 바이트마다 문자열을 만들던 이전 구현
+    private static String legacyEncode(String code) throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        byte[] digest = messageDigest.digest(code.getBytes(UTF_8));
+        StringBuilder builder = new StringBuilder();
+        for (byte b : digest) {
+            builder.append("%02x".formatted(b));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,26 @@
+package reviewme.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import reviewme.review.domain.Review;
+import reviewme.review.service.dto.response.detail.ReviewDetailResponse;
+import reviewme.review.service.mapper.ReviewDetailMapper;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReviewDetailMapperBenchmark {
+
+    private int cursor;
+
+    @Benchmark
+    public ReviewDetailResponse mapToReviewDetailResponse(ReviewFixture fixture) {
+        Review review = fixture.getSavedReviews().get(cursor++ % ReviewFixture.REVIEW_COUNT);
+        return fixture.getBean(ReviewDetailMapper.class).mapToReviewDetailResponse(review, fixture.getReviewGroup());
+    }
+}
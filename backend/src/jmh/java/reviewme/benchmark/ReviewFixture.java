@@ -0,0 +1,162 @@
+package reviewme.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import reviewme.ReviewMeApplication;
+import reviewme.review.domain.CheckboxAnswer;
+import reviewme.review.domain.Review;
+import reviewme.review.domain.TextAnswer;
+import reviewme.review.repository.ReviewRepository;
+import reviewme.review.service.ReviewGroupStatsRecorder;
+import reviewme.review.service.mapper.ReviewSummarizer;
+import reviewme.reviewgroup.repository.ReviewGroupRepository;
+import reviewme.reviewgroup.service.ReviewGroupService;
+import reviewme.reviewgroup.service.cache.ReviewGroupSnapshot;
+import reviewme.reviewgroup.service.dto.ReviewGroupCreationRequest;
+import reviewme.template.repository.TemplateRepository;
+import reviewme.template.service.cache.OptionItemNode;
+import reviewme.template.service.cache.QuestionNode;
+import reviewme.template.service.cache.SectionNode;
+import reviewme.template.service.cache.TemplateGraph;
+import reviewme.template.service.cache.TemplateGraphCache;
+import reviewme.util.collection.LongHashSet;
+
+// DatabaseInitializer 템플릿과 리뷰 1,000개를 가진 리뷰 그룹을 인메모리 H2에 준비한다.
+@State(Scope.Benchmark)
+public class ReviewFixture {
+
+    public static final int REVIEW_COUNT = 1_000;
+    public static final String GROUP_ACCESS_CODE = "benchmarkAccessCode";
+
+    private static final long SEED = 20_240_801L;
+    private static final int MIN_TEXT_LENGTH = 20;
+    private static final int MAX_TEXT_LENGTH = 1_000;
+    private static final String TEXT_SOURCE = "프로젝트 기간 동안 팀원들의 의견을 잘 모아서 회의가 매끄럽게 진행되도록 도와주었어요. ";
+
+    private ConfigurableApplicationContext context;
+    private TemplateGraph template;
+    private ReviewGroupSnapshot reviewGroup;
+    private List<Review> savedReviews;
+    private List<Review> submittedReviews;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ReviewMeApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN"
+                )
+                .run();
+
+        long templateId = getBean(TemplateRepository.class).findAll().get(0).getId();
+        template = getBean(TemplateGraphCache.class).findTemplateGraph(templateId).orElseThrow();
+        // 운영과 같이 집계 행까지 함께 만들도록 서비스로 그룹을 만든다.
+        String reviewRequestCode = getBean(ReviewGroupService.class).createReviewGroup(
+                new ReviewGroupCreationRequest("benchmarkReviewee", "benchmarkProject", GROUP_ACCESS_CODE)
+        ).reviewRequestCode();
+        reviewGroup = getBean(ReviewGroupRepository.class).findByReviewRequestCode(reviewRequestCode)
+                .map(ReviewGroupSnapshot::from)
+                .orElseThrow();
+
+        Random random = new Random(SEED);
+        ReviewSummarizer reviewSummarizer = getBean(ReviewSummarizer.class);
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < REVIEW_COUNT; i++) {
+            Review review = createReview(reviewGroup.getId(), random);
+            reviewSummarizer.summarize(review);
+            reviews.add(review);
+        }
+        savedReviews = getBean(ReviewRepository.class).saveAll(reviews);
+        getBean(ReviewGroupStatsRecorder.class).record(savedReviews);
+
+        submittedReviews = new ArrayList<>();
+        for (int i = 0; i < REVIEW_COUNT; i++) {
+            submittedReviews.add(createReview(reviewGroup.getId(), random));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public TemplateGraph getTemplate() {
+        return template;
+    }
+
+    public ReviewGroupSnapshot getReviewGroup() {
+        return reviewGroup;
+    }
+
+    public List<Review> getSavedReviews() {
+        return savedReviews;
+    }
+
+    public List<Review> getSubmittedReviews() {
+        return submittedReviews;
+    }
+
+    // 템플릿 규칙을 지키는 리뷰를 만든다. 선택한 카테고리에 따라 조건부 섹션에도 답한다.
+    private Review createReview(long reviewGroupId, Random random) {
+        List<TextAnswer> textAnswers = new ArrayList<>();
+        List<CheckboxAnswer> checkboxAnswers = new ArrayList<>();
+        LongHashSet selectedOptionIds = new LongHashSet();
+
+        for (SectionNode section : template.sections()) {
+            if (!section.isVisibleBySelectedOptionIds(selectedOptionIds)) {
+                continue;
+            }
+            for (QuestionNode question : section.questions()) {
+                if (question.isSelectable()) {
+                    List<Long> optionIds = selectOptions(question, random);
+                    optionIds.forEach(selectedOptionIds::add);
+                    checkboxAnswers.add(new CheckboxAnswer(question.id(), optionIds));
+                    continue;
+                }
+                if (question.required() || random.nextBoolean()) {
+                    textAnswers.add(new TextAnswer(question.id(), createText(random)));
+                }
+            }
+        }
+        return new Review(template.templateId(), reviewGroupId, textAnswers, checkboxAnswers);
+    }
+
+    private List<Long> selectOptions(QuestionNode question, Random random) {
+        List<Long> optionIds = new ArrayList<>(question.optionGroup()
+                .optionItems()
+                .stream()
+                .map(OptionItemNode::id)
+                .toList());
+        int minSelectionCount = question.optionGroup().minSelectionCount();
+        int maxSelectionCount = question.optionGroup().maxSelectionCount();
+        int selectionCount = minSelectionCount + random.nextInt(maxSelectionCount - minSelectionCount + 1);
+
+        List<Long> selectedOptionIds = new ArrayList<>();
+        for (int i = 0; i < selectionCount; i++) {
+            selectedOptionIds.add(optionIds.remove(random.nextInt(optionIds.size())));
+        }
+        return selectedOptionIds;
+    }
+
+    private String createText(Random random) {
+        int length = MIN_TEXT_LENGTH + random.nextInt(MAX_TEXT_LENGTH - MIN_TEXT_LENGTH + 1);
+        return TEXT_SOURCE.repeat(length / TEXT_SOURCE.length() + 1).substring(0, length);
+    }
+}
@@ -0,0 +1,44 @@
+package reviewme.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import reviewme.review.service.dto.response.list.ReceivedReviewsResponse;
+import reviewme.review.service.mapper.ReviewListMapper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReviewListMapperBenchmark {
+
+    @Param({"10", "50"})
+    private int size;
+
+    @Benchmark
+    public ReceivedReviewsResponse mapFirstPage(ReviewFixture fixture) {
+        return fixture.getBean(ReviewListMapper.class).mapToReceivedReviews(fixture.getReviewGroup(), null, size);
+    }
+
+    // 그룹의 리뷰 1,000개를 커서로 끝까지 넘긴다.
+    @Benchmark
+    public int mapAllPages(ReviewFixture fixture) {
+        ReviewListMapper reviewListMapper = fixture.getBean(ReviewListMapper.class);
+        int pageCount = 0;
+        Long lastReviewId = null;
+        boolean isLastPage = false;
+        while (!isLastPage) {
+            ReceivedReviewsResponse response = reviewListMapper.mapToReceivedReviews(
+                    fixture.getReviewGroup(), lastReviewId, size
+            );
+            lastReviewId = response.lastReviewId();
+            isLastPage = response.isLastPage();
+            pageCount++;
+        }
+        return pageCount;
+    }
+}
@@ -0,0 +1,27 @@
+package reviewme.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import reviewme.review.domain.Review;
+import reviewme.review.service.mapper.ReviewPreviewGenerator;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReviewPreviewGeneratorBenchmark {
+
+    private final ReviewPreviewGenerator reviewPreviewGenerator = new ReviewPreviewGenerator();
+
+    private int cursor;
+
+    @Benchmark
+    public String generatePreview(ReviewFixture fixture) {
+        Review review = fixture.getSubmittedReviews().get(cursor++ % ReviewFixture.REVIEW_COUNT);
+        return reviewPreviewGenerator.generatePreview(review.getTextAnswers());
+    }
+}
@@ -0,0 +1,26 @@
+package reviewme.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import reviewme.review.domain.Review;
+import reviewme.review.service.validator.ReviewValidator;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReviewValidatorBenchmark {
+
+    private int cursor;
+
+    @Benchmark
+    public Review validate(ReviewFixture fixture) {
+        Review review = fixture.getSubmittedReviews().get(cursor++ % ReviewFixture.REVIEW_COUNT);
+        fixture.getBean(ReviewValidator.class).validate(review);
+        return review;
+    }
+}
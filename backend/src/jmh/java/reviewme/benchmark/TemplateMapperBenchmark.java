@@ -0,0 +1,35 @@
+package reviewme.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import reviewme.template.service.dto.response.SerializedTemplateResponse;
+import reviewme.template.service.dto.response.TemplateResponse;
+import reviewme.template.service.mapper.TemplateMapper;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateMapperBenchmark {
+
+    @Benchmark
+    public TemplateResponse mapToTemplateResponse(ReviewFixture fixture) {
+        return fixture.getBean(TemplateMapper.class).mapToTemplateResponse(fixture.getReviewGroup());
+    }
+
+    // 이전처럼 요청마다 DTO 를 만들고 직렬화하는 경우
+    @Benchmark
+    public byte[] mapAndSerializeTemplateResponse(ReviewFixture fixture) throws JsonProcessingException {
+        TemplateResponse response = fixture.getBean(TemplateMapper.class)
+                .mapToTemplateResponse(fixture.getReviewGroup());
+        return fixture.getBean(ObjectMapper.class).writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public SerializedTemplateResponse mapToSerializedTemplateResponse(ReviewFixture fixture) {
+        return fixture.getBean(TemplateMapper.class).mapToSerializedTemplateResponse(fixture.getReviewGroup());
+    }
+}
@@ -18,6 +18,7 @@ import reviewme.template.domain.Template;
 import reviewme.template.domain.VisibleType;
 import reviewme.template.repository.SectionRepository;
 import reviewme.template.repository.TemplateRepository;
+import reviewme.template.service.cache.TemplateGraphCache;
 
 @Component
 @RequiredArgsConstructor
@@ -33,6 +34,7 @@ public class DatabaseInitializer {
     private final OptionGroupRepository optionGroupRepository;
     private final SectionRepository sectionRepository;
     private final TemplateRepository templateRepository;
+    private final TemplateGraphCache templateGraphCache;
 
     @PostConstruct
     @Transactional
@@ -142,5 +144,6 @@ public class DatabaseInitializer {
                 textGrowthGoalSectionId,
                 cheerUpSectionId
         )));
+        templateGraphCache.invalidateAll();
     }
 }
@@ -0,0 +1,10 @@
+package reviewme.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import reviewme.config.properties.GroupAccessTokenProperties;
+
+@Configuration
+@EnableConfigurationProperties(GroupAccessTokenProperties.class)
+public class GroupAccessTokenConfig {
+}
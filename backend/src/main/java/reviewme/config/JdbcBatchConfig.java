@@ -0,0 +1,36 @@
+package reviewme.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JdbcBatchConfig {
+
+    private static final String MYSQL_URL_PREFIX = "jdbc:mysql:";
+    private static final String REWRITE_BATCHED_STATEMENTS = "rewriteBatchedStatements";
+    private static final String USE_CURSOR_FETCH = "useCursorFetch";
+
+    // MySQL 드라이버는 rewriteBatchedStatements 가 켜져 있어야 배치 INSERT 를 여러 VALUES 를 가진 한 문장으로 보낸다.
+    // useCursorFetch 가 꺼져 있으면 fetch size 를 무시하고 결과를 모두 메모리에 올린다.
+    // fetch size 를 지정한 조회(리뷰 내보내기)만 커서를 쓰고, 나머지 조회는 그대로 한 번에 받는다.
+    @Bean
+    public static BeanPostProcessor mysqlDataSourcePropertiesPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && isMySql(dataSource)) {
+                    dataSource.addDataSourceProperty(REWRITE_BATCHED_STATEMENTS, "true");
+                    dataSource.addDataSourceProperty(USE_CURSOR_FETCH, "true");
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static boolean isMySql(HikariDataSource dataSource) {
+        String jdbcUrl = dataSource.getJdbcUrl();
+        return jdbcUrl != null && jdbcUrl.startsWith(MYSQL_URL_PREFIX);
+    }
+}
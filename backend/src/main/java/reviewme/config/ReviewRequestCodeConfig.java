@@ -0,0 +1,10 @@
+package reviewme.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import reviewme.config.properties.ReviewRequestCodeProperties;
+
+@Configuration
+@EnableConfigurationProperties(ReviewRequestCodeProperties.class)
+public class ReviewRequestCodeConfig {
+}
@@ -0,0 +1,10 @@
+package reviewme.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import reviewme.config.properties.ReviewWriteBehindProperties;
+
+@Configuration
+@EnableConfigurationProperties(ReviewWriteBehindProperties.class)
+public class ReviewWriteBehindConfig {
+}
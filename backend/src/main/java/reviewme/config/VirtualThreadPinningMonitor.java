@@ -0,0 +1,83 @@
+package reviewme.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 가상 스레드가 캐리어 스레드에 고정된 채 오래 기다리면 JFR 이벤트로 받아 로그와 지표로 남긴다.
+// JDBC 드라이버나 라이브러리의 synchronized 블록 안에서 I/O 를 기다리는 곳을 찾기 위한 용도다.
+@Slf4j
+@Component
+@Profile("virtual-threads")
+public class VirtualThreadPinningMonitor {
+
+    private static final int MIN_JAVA_VERSION = 21;
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20);
+    private static final int LOGGED_FRAME_COUNT = 8;
+
+    private final Counter pinnedCounter;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        // JDK 21 미만에서는 spring.threads.virtual.enabled 가 조용히 무시되므로 기동 단계에서 막는다.
+        if (Runtime.version().feature() < MIN_JAVA_VERSION) {
+            throw new IllegalStateException(
+                    "virtual-threads profile requires Java " + MIN_JAVA_VERSION + " or later - current: "
+                    + Runtime.version()
+            );
+        }
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads pinned to their carrier longer than " + PINNED_THRESHOLD)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(PINNED_THRESHOLD)
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::record);
+        recordingStream.startAsync();
+    }
+
+    private void record(RecordedEvent event) {
+        pinnedCounter.increment();
+        log.warn("Virtual thread pinned - duration: {}, stackTrace:\n{}", event.getDuration(), topFrames(event));
+    }
+
+    private String topFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "(unavailable)";
+        }
+        return event.getStackTrace()
+                .getFrames()
+                .stream()
+                .limit(LOGGED_FRAME_COUNT)
+                .map(this::formatFrame)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private String formatFrame(RecordedFrame frame) {
+        return "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+               + ":" + frame.getLineNumber();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+}
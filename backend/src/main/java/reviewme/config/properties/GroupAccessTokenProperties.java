@@ -0,0 +1,12 @@
+package reviewme.config.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "review-group.access-token")
+public record GroupAccessTokenProperties(
+        String secret,
+        @DefaultValue("30m") Duration ttl
+) {
+}
@@ -0,0 +1,9 @@
+package reviewme.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "review-group.request-code")
+public record ReviewRequestCodeProperties(
+        String secret
+) {
+}
@@ -0,0 +1,16 @@
+package reviewme.config.properties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "review.write-behind")
+public record ReviewWriteBehindProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/review-submissions.queue") Path queueFile,
+        @DefaultValue("200") int batchSize,
+        @DefaultValue("500ms") Duration drainInterval,
+        @DefaultValue("30s") Duration maxRetryDelay
+) {
+}
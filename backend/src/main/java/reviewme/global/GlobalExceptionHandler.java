@@ -25,6 +25,7 @@ import reviewme.global.exception.DataInconsistencyException;
 import reviewme.global.exception.FieldErrorResponse;
 import reviewme.global.exception.NotFoundException;
 import reviewme.global.exception.UnauthorizedException;
+import reviewme.review.service.exception.ReviewValidationException;
 
 @Slf4j
 @RestControllerAdvice
@@ -40,6 +41,14 @@ public class GlobalExceptionHandler {
         return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getErrorMessage());
     }
 
+    @ExceptionHandler(ReviewValidationException.class)
+    public ProblemDetail handleReviewValidationException(ReviewValidationException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getErrorMessage());
+        Map<String, Object> properties = Map.of("errors", ex.getErrorMessages());
+        problemDetail.setProperties(properties);
+        return problemDetail;
+    }
+
     @ExceptionHandler(UnauthorizedException.class)
     public ProblemDetail handleUnauthorizedException(UnauthorizedException ex) {
         return ProblemDetail.forStatusAndDetail(HttpStatus.UNAUTHORIZED, ex.getErrorMessage());
@@ -15,4 +15,6 @@ public @interface HeaderProperty {
 
     @AliasFor("value")
     String headerName() default "";
+
+    boolean required() default true;
 }
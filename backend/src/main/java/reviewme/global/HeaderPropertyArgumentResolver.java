@@ -24,7 +24,7 @@ public class HeaderPropertyArgumentResolver implements HandlerMethodArgumentReso
         String headerName = parameterAnnotation.headerName();
         String headerProperty = request.getHeader(headerName);
 
-        if (headerProperty == null) {
+        if (headerProperty == null && parameterAnnotation.required()) {
             throw new MissingHeaderPropertyException(headerName);
         }
         return headerProperty;
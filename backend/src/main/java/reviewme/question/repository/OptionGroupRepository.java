@@ -1,9 +1,12 @@
 package reviewme.question.repository;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import reviewme.question.domain.OptionGroup;
 
@@ -12,6 +15,10 @@ public interface OptionGroupRepository extends JpaRepository<OptionGroup, Long>
 
     Optional<OptionGroup> findByQuestionId(long questionId);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "option_group")
+    })
     @Query(value = """
             SELECT og.* FROM option_group og
             WHERE og.question_id IN (:questionIds)
@@ -1,8 +1,11 @@
 package reviewme.question.repository;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import reviewme.question.domain.OptionItem;
 import reviewme.question.domain.OptionType;
@@ -12,12 +15,21 @@ public interface OptionItemRepository extends JpaRepository<OptionItem, Long> {
 
     List<OptionItem> findAllByOptionGroupId(long optionGroupId);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "option_item")
+    })
     @Query(value = """
             SELECT o.* FROM option_item o
             WHERE o.option_type = :#{#optionType.name()}
             """, nativeQuery = true)
     List<OptionItem> findAllByOptionType(OptionType optionType);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "option_item"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "option_group")
+    })
     @Query(value = """
             SELECT o.* FROM option_item o
             JOIN option_group og
@@ -1,13 +1,23 @@
 package reviewme.question.repository;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Set;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import reviewme.question.domain.Question;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
 
+    // 네이티브 쿼리는 읽는 테이블을 Hibernate 가 알 수 없으므로, 쿼리 캐시를 무효화할 테이블을 직접 지정한다.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "question"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "section_question"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "template_section")
+    })
     @Query(value = """
             SELECT q.id FROM question q
             JOIN section_question sq
@@ -18,6 +28,12 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
             """, nativeQuery = true)
     Set<Long> findAllQuestionIdByTemplateId(long templateId);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "question"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "section_question"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "template_section")
+    })
     @Query(value = """
             SELECT q.* FROM question q
             JOIN section_question sq
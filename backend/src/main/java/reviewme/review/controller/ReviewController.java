@@ -3,6 +3,12 @@ package reviewme.review.controller;
 import jakarta.validation.Valid;
 import java.net.URI;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -10,48 +16,128 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import reviewme.global.HeaderProperty;
+import reviewme.review.service.ReviewBatchRegisterService;
 import reviewme.review.service.ReviewRegisterService;
 import reviewme.review.service.ReviewDetailLookupService;
+import reviewme.review.service.ReviewExportService;
 import reviewme.review.service.ReviewListLookupService;
+import reviewme.review.service.dto.request.ReviewBatchRegisterRequest;
 import reviewme.review.service.dto.request.ReviewRegisterRequest;
 import reviewme.review.service.dto.response.detail.ReviewDetailResponse;
 import reviewme.review.service.dto.response.list.ReceivedReviewsResponse;
+import reviewme.review.service.dto.response.register.ReviewBatchRegisterResponse;
+import reviewme.review.service.export.ReviewExportFormat;
+import reviewme.review.service.queue.ReviewWriteBehindService;
+import reviewme.reviewgroup.service.dto.GroupAccessCredential;
 
 @RestController
 @RequiredArgsConstructor
 public class ReviewController {
 
     private static final String GROUP_ACCESS_CODE_HEADER = "GroupAccessCode";
+    private static final String GROUP_ACCESS_TOKEN_HEADER = "GroupAccessToken";
+
+    // 접근 코드로 보호되는 응답이므로 브라우저에만 저장하고, 쓸 때마다 ETag 로 바뀌었는지 확인하게 한다.
+    private static final CacheControl REVALIDATE_PRIVATE = CacheControl.noCache().cachePrivate();
 
     private final ReviewRegisterService reviewRegisterService;
+    private final ReviewBatchRegisterService reviewBatchRegisterService;
     private final ReviewListLookupService reviewListLookupService;
     private final ReviewDetailLookupService reviewDetailLookupService;
+    private final ReviewExportService reviewExportService;
+    private final ObjectProvider<ReviewWriteBehindService> reviewWriteBehindService;
 
     @PostMapping("/v2/reviews")
     public ResponseEntity<Void> createReview(@Valid @RequestBody ReviewRegisterRequest request) {
-        long savedReviewId = reviewRegisterService.registerReview(request);
+        ReviewWriteBehindService writeBehindService = reviewWriteBehindService.getIfAvailable();
+        long savedReviewId = writeBehindService != null
+                ? writeBehindService.registerReview(request)
+                : reviewRegisterService.registerReview(request);
         return ResponseEntity.created(URI.create("/reviews/" + savedReviewId)).build();
     }
 
+    @PostMapping("/v2/reviews/batch")
+    public ResponseEntity<ReviewBatchRegisterResponse> createReviews(
+            @Valid @RequestBody ReviewBatchRegisterRequest request
+    ) {
+        ReviewBatchRegisterResponse response = reviewBatchRegisterService.registerReviews(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @GetMapping("/v2/reviews")
     public ResponseEntity<ReceivedReviewsResponse> findReceivedReviews(
             @RequestParam String reviewRequestCode,
-            @HeaderProperty(GROUP_ACCESS_CODE_HEADER) String groupAccessCode
+            @RequestParam(required = false) Long lastReviewId,
+            @RequestParam(required = false) Integer size,
+            @HeaderProperty(value = GROUP_ACCESS_CODE_HEADER, required = false) String groupAccessCode,
+            @HeaderProperty(value = GROUP_ACCESS_TOKEN_HEADER, required = false) String groupAccessToken,
+            WebRequest webRequest
+    ) {
+        GroupAccessCredential credential = GroupAccessCredential.of(groupAccessCode, groupAccessToken);
+        String eTag = reviewListLookupService.getReceivedReviewsETag(reviewRequestCode, credential);
+        if (webRequest.checkNotModified(eTag)) {
+            return notModified(eTag);
+        }
+        ReceivedReviewsResponse response = reviewListLookupService.getReceivedReviews(
+                reviewRequestCode, credential, lastReviewId, size
+        );
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE_PRIVATE)
+                .eTag(eTag)
+                .body(response);
+    }
+
+    @GetMapping("/v2/reviews/export")
+    public ResponseEntity<StreamingResponseBody> exportReviews(
+            @RequestParam String reviewRequestCode,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @HeaderProperty(value = GROUP_ACCESS_CODE_HEADER, required = false) String groupAccessCode,
+            @HeaderProperty(value = GROUP_ACCESS_TOKEN_HEADER, required = false) String groupAccessToken
     ) {
-        ReceivedReviewsResponse response = reviewListLookupService.getReceivedReviews(reviewRequestCode, groupAccessCode);
-        return ResponseEntity.ok(response);
+        ReviewExportFormat exportFormat = ReviewExportFormat.from(format);
+        GroupAccessCredential credential = GroupAccessCredential.of(groupAccessCode, groupAccessToken);
+        reviewExportService.authorizeExport(reviewRequestCode, credential);
+
+        StreamingResponseBody body = outputStream -> reviewExportService.export(
+                reviewRequestCode, exportFormat, outputStream
+        );
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename("reviews-%s.%s".formatted(reviewRequestCode, exportFormat.getFileExtension()))
+                .build();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(body);
     }
 
     @GetMapping("/v2/reviews/{id}")
     public ResponseEntity<ReviewDetailResponse> findReceivedReviewDetail(
             @PathVariable long id,
             @RequestParam String reviewRequestCode,
-            @HeaderProperty(GROUP_ACCESS_CODE_HEADER) String groupAccessCode
+            @HeaderProperty(value = GROUP_ACCESS_CODE_HEADER, required = false) String groupAccessCode,
+            @HeaderProperty(value = GROUP_ACCESS_TOKEN_HEADER, required = false) String groupAccessToken,
+            WebRequest webRequest
     ) {
-        ReviewDetailResponse response = reviewDetailLookupService.getReviewDetail(
-                id, reviewRequestCode, groupAccessCode
-        );
-        return ResponseEntity.ok(response);
+        GroupAccessCredential credential = GroupAccessCredential.of(groupAccessCode, groupAccessToken);
+        String eTag = reviewDetailLookupService.getReviewDetailETag(id, reviewRequestCode, credential);
+        if (webRequest.checkNotModified(eTag)) {
+            return notModified(eTag);
+        }
+        ReviewDetailResponse response = reviewDetailLookupService.getReviewDetail(id, reviewRequestCode, credential);
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE_PRIVATE)
+                .eTag(eTag)
+                .body(response);
+    }
+
+    private <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(REVALIDATE_PRIVATE)
+                .eTag(eTag)
+                .build();
     }
 }
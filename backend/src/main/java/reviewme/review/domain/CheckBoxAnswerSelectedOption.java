@@ -6,6 +6,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,7 +18,15 @@ import lombok.NoArgsConstructor;
 public class CheckBoxAnswerSelectedOption {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "checkbox_answer_selected_option_id")
+    @TableGenerator(
+            name = "checkbox_answer_selected_option_id",
+            table = IdSequence.TABLE_NAME,
+            pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN,
+            pkColumnValue = IdSequence.CHECKBOX_ANSWER_SELECTED_OPTION,
+            allocationSize = IdSequence.ALLOCATION_SIZE
+    )
     private Long id;
 
     @Column(name = "checkbox_answer_id", nullable = false, insertable = false, updatable = false)
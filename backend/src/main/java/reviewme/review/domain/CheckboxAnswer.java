@@ -10,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -25,7 +26,15 @@ import reviewme.review.domain.exception.QuestionNotAnsweredException;
 public class CheckboxAnswer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "checkbox_answer_id")
+    @TableGenerator(
+            name = "checkbox_answer_id",
+            table = IdSequence.TABLE_NAME,
+            pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN,
+            pkColumnValue = IdSequence.CHECKBOX_ANSWER,
+            allocationSize = IdSequence.ALLOCATION_SIZE
+    )
     private Long id;
 
     @Column(name = "review_id", nullable = false, insertable = false, updatable = false)
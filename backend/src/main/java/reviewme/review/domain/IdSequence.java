@@ -0,0 +1,19 @@
+package reviewme.review.domain;
+
+// 리뷰와 답변 아이디, 리뷰 요청 코드 번호를 블록 단위로 나눠주는 id_sequence 테이블의 이름과 블록 크기
+public final class IdSequence {
+
+    public static final String TABLE_NAME = "id_sequence";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 100;
+
+    public static final String REVIEW = "review";
+    public static final String TEXT_ANSWER = "text_answer";
+    public static final String CHECKBOX_ANSWER = "checkbox_answer";
+    public static final String CHECKBOX_ANSWER_SELECTED_OPTION = "checkbox_answer_selected_option";
+    public static final String REVIEW_REQUEST_CODE = "review_request_code";
+
+    private IdSequence() {
+    }
+}
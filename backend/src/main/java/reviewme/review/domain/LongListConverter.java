@@ -0,0 +1,36 @@
+package reviewme.review.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Converter
+public class LongListConverter implements AttributeConverter<List<Long>, String> {
+
+    private static final String DELIMITER = ",";
+
+    @Override
+    public String convertToDatabaseColumn(List<Long> values) {
+        if (values == null) {
+            return null;
+        }
+        return values.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+    }
+
+    @Override
+    public List<Long> convertToEntityAttribute(String column) {
+        if (column == null) {
+            return null;
+        }
+        if (column.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(column.split(DELIMITER))
+                .map(Long::valueOf)
+                .toList();
+    }
+}
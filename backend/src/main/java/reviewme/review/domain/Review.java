@@ -2,34 +2,45 @@ package reviewme.review.domain;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import reviewme.util.collection.LongHashSet;
 
 @Entity
-@Table(name = "review")
+@Table(name = "review", indexes = {
+        @Index(name = "idx_review_group_created_at", columnList = "review_group_id, created_at, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EqualsAndHashCode(of = "id")
 @Getter
 public class Review {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "review_id")
+    @TableGenerator(
+            name = "review_id",
+            table = IdSequence.TABLE_NAME,
+            pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN,
+            pkColumnValue = IdSequence.REVIEW,
+            allocationSize = IdSequence.ALLOCATION_SIZE
+    )
     private Long id;
 
     @Column(name = "template_id", nullable = false)
@@ -49,31 +60,69 @@ public class Review {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "preview", length = 200)
+    private String preview;
+
+    @Column(name = "category_option_ids", length = 1000)
+    @Convert(converter = LongListConverter.class)
+    private List<Long> categoryOptionIds;
+
     public Review(long templateId, long reviewGroupId,
                   List<TextAnswer> textAnswers, List<CheckboxAnswer> checkboxAnswers) {
+        this(templateId, reviewGroupId, textAnswers, checkboxAnswers, LocalDateTime.now());
+    }
+
+    public Review(long templateId, long reviewGroupId,
+                  List<TextAnswer> textAnswers, List<CheckboxAnswer> checkboxAnswers, LocalDateTime createdAt) {
         this.templateId = templateId;
         this.reviewGroupId = reviewGroupId;
         this.textAnswers = textAnswers;
         this.checkboxAnswers = checkboxAnswers;
-        this.createdAt = LocalDateTime.now();
+        this.createdAt = createdAt;
+    }
+
+    public void summarize(String preview, List<Long> categoryOptionIds) {
+        this.preview = preview;
+        this.categoryOptionIds = List.copyOf(categoryOptionIds);
+    }
+
+    public boolean isSummarized() {
+        return preview != null && categoryOptionIds != null;
     }
 
-    public Set<Long> getAnsweredQuestionIds() {
-        return Stream.concat(
-                textAnswers.stream().map(TextAnswer::getQuestionId),
-                checkboxAnswers.stream().map(CheckboxAnswer::getQuestionId)
-        ).collect(Collectors.toSet());
+    public LongHashSet getAnsweredQuestionIds() {
+        LongHashSet questionIds = new LongHashSet(textAnswers.size() + checkboxAnswers.size());
+        for (TextAnswer textAnswer : textAnswers) {
+            questionIds.add(textAnswer.getQuestionId());
+        }
+        for (CheckboxAnswer checkboxAnswer : checkboxAnswers) {
+            questionIds.add(checkboxAnswer.getQuestionId());
+        }
+        return questionIds;
     }
 
-    public Set<Long> getAllCheckBoxOptionIds() {
-        return checkboxAnswers.stream()
-                .flatMap(answer -> answer.getSelectedOptionIds().stream())
-                .map(CheckBoxAnswerSelectedOption::getSelectedOptionId)
-                .collect(Collectors.toSet());
+    public LongHashSet getAllCheckBoxOptionIds() {
+        LongHashSet optionIds = new LongHashSet();
+        for (CheckboxAnswer checkboxAnswer : checkboxAnswers) {
+            for (CheckBoxAnswerSelectedOption selectedOption : checkboxAnswer.getSelectedOptionIds()) {
+                optionIds.add(selectedOption.getSelectedOptionId());
+            }
+        }
+        return optionIds;
     }
 
     public boolean hasAnsweredQuestion(long questionId) {
-        return getAnsweredQuestionIds().contains(questionId);
+        for (TextAnswer textAnswer : textAnswers) {
+            if (textAnswer.getQuestionId() == questionId) {
+                return true;
+            }
+        }
+        for (CheckboxAnswer checkboxAnswer : checkboxAnswers) {
+            if (checkboxAnswer.getQuestionId() == questionId) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public LocalDate getCreatedDate() {
@@ -6,6 +6,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -20,9 +21,20 @@ import reviewme.review.domain.exception.QuestionNotAnsweredException;
 public class TextAnswer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "text_answer_id")
+    @TableGenerator(
+            name = "text_answer_id",
+            table = IdSequence.TABLE_NAME,
+            pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN,
+            pkColumnValue = IdSequence.TEXT_ANSWER,
+            allocationSize = IdSequence.ALLOCATION_SIZE
+    )
     private Long id;
 
+    @Column(name = "review_id", nullable = false, insertable = false, updatable = false)
+    private long reviewId;
+
     @Column(name = "question_id", nullable = false)
     private long questionId;
 
@@ -1,9 +1,25 @@
 package reviewme.review.repository;
 
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import reviewme.question.domain.OptionType;
 import reviewme.review.domain.CheckboxAnswer;
+import reviewme.review.repository.projection.SelectedCategory;
 
 @Repository
 public interface CheckboxAnswerRepository extends JpaRepository<CheckboxAnswer, Long> {
+
+    @Query("""
+            SELECT new reviewme.review.repository.projection.SelectedCategory(c.reviewId, o.id, o.content)
+            FROM CheckboxAnswer c
+            JOIN c.selectedOptionIds s
+            JOIN OptionItem o ON o.id = s.selectedOptionId
+            WHERE c.reviewId IN :reviewIds
+            AND o.optionType = :optionType
+            ORDER BY o.id
+            """)
+    List<SelectedCategory> findSelectedOptionsByReviewIds(Collection<Long> reviewIds, OptionType optionType);
 }
@@ -0,0 +1,41 @@
+package reviewme.review.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import reviewme.review.domain.IdSequence;
+
+// JDBC 로 직접 저장할 때 엔티티와 같은 id_sequence 에서 아이디 구간을 받아온다.
+// Hibernate TableGenerator 와 pooled 옵티마이저와 같은 규칙을 따르므로 두 경로가 받은 아이디는 겹치지 않는다.
+@Repository
+public class IdBlockAllocator {
+
+    private static final String SELECT_NEXT_VALUE = "SELECT %s FROM %s WHERE %s = ? FOR UPDATE"
+            .formatted(IdSequence.VALUE_COLUMN, IdSequence.TABLE_NAME, IdSequence.NAME_COLUMN);
+    private static final String UPDATE_NEXT_VALUE = "UPDATE %s SET %s = ? WHERE %s = ?"
+            .formatted(IdSequence.TABLE_NAME, IdSequence.VALUE_COLUMN, IdSequence.NAME_COLUMN);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public IdBlockAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // count 개의 연속된 아이디 중 첫 번째를 돌려준다.
+    // stored_last_used 설정에서 TableGenerator 는 저장된 값 V 를 읽고 V + 1 을 블록의 마지막 아이디로 쓰므로,
+    // Hibernate 와 같이 [V + 1 - 블록 크기 + 1, ...] 구간을 필요한 블록 수만큼 가져간다.
+    public long allocate(String sequenceName, int count) {
+        long blockCount = Math.max(1, (count + IdSequence.ALLOCATION_SIZE - 1) / IdSequence.ALLOCATION_SIZE);
+        Long nextValue = transactionTemplate.execute(status -> {
+            Long current = jdbcTemplate.queryForObject(SELECT_NEXT_VALUE, Long.class, sequenceName);
+            jdbcTemplate.update(UPDATE_NEXT_VALUE, current + blockCount * IdSequence.ALLOCATION_SIZE, sequenceName);
+            return current;
+        });
+        return nextValue + 1 - IdSequence.ALLOCATION_SIZE + 1;
+    }
+}
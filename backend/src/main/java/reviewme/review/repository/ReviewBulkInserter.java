@@ -0,0 +1,177 @@
+package reviewme.review.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import reviewme.review.domain.CheckBoxAnswerSelectedOption;
+import reviewme.review.domain.CheckboxAnswer;
+import reviewme.review.domain.IdSequence;
+import reviewme.review.domain.LongListConverter;
+import reviewme.review.domain.Review;
+import reviewme.review.domain.TextAnswer;
+
+// 수천 개의 리뷰는 영속성 컨텍스트를 거치지 않고 JDBC 배치로 직접 저장한다.
+// 아이디는 엔티티와 같은 id_sequence 에서 구간 단위로 받아 INSERT 에 함께 넣는다.
+@Repository
+@RequiredArgsConstructor
+public class ReviewBulkInserter {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private static final String INSERT_REVIEW = """
+            INSERT INTO review (id, template_id, review_group_id, created_at, preview, category_option_ids)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_TEXT_ANSWER = """
+            INSERT INTO text_answer (id, review_id, question_id, content)
+            VALUES (?, ?, ?, ?)
+            """;
+    private static final String INSERT_CHECKBOX_ANSWER = """
+            INSERT INTO checkbox_answer (id, review_id, question_id)
+            VALUES (?, ?, ?)
+            """;
+    private static final String INSERT_SELECTED_OPTION = """
+            INSERT INTO checkbox_answer_selected_option (id, checkbox_answer_id, selected_option_id)
+            VALUES (?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlockAllocator idBlockAllocator;
+
+    private final LongListConverter longListConverter = new LongListConverter();
+
+    public List<Long> insertAll(List<Review> reviews) {
+        List<Long> reviewIds = new ArrayList<>(reviews.size());
+        for (int from = 0; from < reviews.size(); from += CHUNK_SIZE) {
+            List<Review> chunk = reviews.subList(from, Math.min(from + CHUNK_SIZE, reviews.size()));
+            long firstReviewId = idBlockAllocator.allocate(IdSequence.REVIEW, chunk.size());
+            long[] chunkReviewIds = LongStream.range(firstReviewId, firstReviewId + chunk.size()).toArray();
+            insertChunk(chunk, chunkReviewIds);
+            LongStream.of(chunkReviewIds).forEach(reviewIds::add);
+        }
+        return reviewIds;
+    }
+
+    // 아이디를 미리 받아 둔 리뷰를 저장한다. reviewIds 는 reviews 와 같은 순서여야 한다.
+    public void insertAll(List<Review> reviews, long[] reviewIds) {
+        for (int from = 0; from < reviews.size(); from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, reviews.size());
+            insertChunk(reviews.subList(from, to), Arrays.copyOfRange(reviewIds, from, to));
+        }
+    }
+
+    private void insertChunk(List<Review> reviews, long[] reviewIds) {
+        List<TextAnswerRow> textAnswers = new ArrayList<>();
+        List<CheckboxAnswerRow> checkboxAnswers = new ArrayList<>();
+        for (int i = 0; i < reviews.size(); i++) {
+            long reviewId = reviewIds[i];
+            reviews.get(i).getTextAnswers()
+                    .forEach(textAnswer -> textAnswers.add(new TextAnswerRow(reviewId, textAnswer)));
+            reviews.get(i).getCheckboxAnswers()
+                    .forEach(checkboxAnswer -> checkboxAnswers.add(new CheckboxAnswerRow(reviewId, checkboxAnswer)));
+        }
+
+        insertReviews(reviews, reviewIds);
+        insertTextAnswers(textAnswers);
+        long firstCheckboxAnswerId = insertCheckboxAnswers(checkboxAnswers);
+        insertSelectedOptions(checkboxAnswers, firstCheckboxAnswerId);
+    }
+
+    private void insertReviews(List<Review> reviews, long[] reviewIds) {
+        batchInsert(INSERT_REVIEW, reviews.size(), (statement, index) -> {
+            Review review = reviews.get(index);
+            statement.setLong(1, reviewIds[index]);
+            statement.setLong(2, review.getTemplateId());
+            statement.setLong(3, review.getReviewGroupId());
+            statement.setTimestamp(4, Timestamp.valueOf(review.getCreatedAt()));
+            statement.setString(5, review.getPreview());
+            statement.setString(6, longListConverter.convertToDatabaseColumn(review.getCategoryOptionIds()));
+        });
+    }
+
+    private void insertTextAnswers(List<TextAnswerRow> textAnswers) {
+        if (textAnswers.isEmpty()) {
+            return;
+        }
+        long firstTextAnswerId = idBlockAllocator.allocate(IdSequence.TEXT_ANSWER, textAnswers.size());
+        batchInsert(INSERT_TEXT_ANSWER, textAnswers.size(), (statement, index) -> {
+            TextAnswerRow row = textAnswers.get(index);
+            statement.setLong(1, firstTextAnswerId + index);
+            statement.setLong(2, row.reviewId());
+            statement.setLong(3, row.textAnswer().getQuestionId());
+            statement.setString(4, row.textAnswer().getContent());
+        });
+    }
+
+    // 저장한 첫 체크박스 답변의 아이디를 돌려준다. 나머지는 입력 순서대로 1씩 증가한다.
+    private long insertCheckboxAnswers(List<CheckboxAnswerRow> checkboxAnswers) {
+        if (checkboxAnswers.isEmpty()) {
+            return 0;
+        }
+        long firstCheckboxAnswerId = idBlockAllocator.allocate(IdSequence.CHECKBOX_ANSWER, checkboxAnswers.size());
+        batchInsert(INSERT_CHECKBOX_ANSWER, checkboxAnswers.size(), (statement, index) -> {
+            CheckboxAnswerRow row = checkboxAnswers.get(index);
+            statement.setLong(1, firstCheckboxAnswerId + index);
+            statement.setLong(2, row.reviewId());
+            statement.setLong(3, row.checkboxAnswer().getQuestionId());
+        });
+        return firstCheckboxAnswerId;
+    }
+
+    private void insertSelectedOptions(List<CheckboxAnswerRow> checkboxAnswers, long firstCheckboxAnswerId) {
+        List<long[]> selectedOptions = new ArrayList<>();
+        for (int i = 0; i < checkboxAnswers.size(); i++) {
+            long checkboxAnswerId = firstCheckboxAnswerId + i;
+            for (CheckBoxAnswerSelectedOption selectedOption : checkboxAnswers.get(i).checkboxAnswer()
+                    .getSelectedOptionIds()) {
+                selectedOptions.add(new long[]{checkboxAnswerId, selectedOption.getSelectedOptionId()});
+            }
+        }
+        if (selectedOptions.isEmpty()) {
+            return;
+        }
+        long firstSelectedOptionId = idBlockAllocator.allocate(
+                IdSequence.CHECKBOX_ANSWER_SELECTED_OPTION, selectedOptions.size()
+        );
+        batchInsert(INSERT_SELECTED_OPTION, selectedOptions.size(), (statement, index) -> {
+            long[] selectedOption = selectedOptions.get(index);
+            statement.setLong(1, firstSelectedOptionId + index);
+            statement.setLong(2, selectedOption[0]);
+            statement.setLong(3, selectedOption[1]);
+        });
+    }
+
+    private void batchInsert(String sql, int batchSize, RowBinder rowBinder) {
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int index) throws SQLException {
+                rowBinder.bind(statement, index);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batchSize;
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+
+        void bind(PreparedStatement statement, int index) throws SQLException;
+    }
+
+    private record TextAnswerRow(long reviewId, TextAnswer textAnswer) {
+    }
+
+    private record CheckboxAnswerRow(long reviewId, CheckboxAnswer checkboxAnswer) {
+    }
+}
@@ -0,0 +1,57 @@
+package reviewme.review.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import reviewme.review.repository.projection.ReviewAnswerRow;
+
+// 그룹의 모든 답변을 엔티티로 만들지 않고 커서로 한 행씩 넘겨준다.
+// MySQL 은 useCursorFetch=true 여야 fetch size 만큼씩 나눠 받으므로 JdbcBatchConfig 에서 데이터소스에 켜 둔다.
+@Repository
+public class ReviewExportReader {
+
+    private static final int FETCH_SIZE = 500;
+
+    // 같은 리뷰, 같은 질문의 행이 이어지도록 정렬한다.
+    private static final String SELECT_ANSWERS = """
+            SELECT r.id AS review_id, r.created_at, ta.question_id, ta.content, NULL AS selected_option_id
+            FROM review r
+                     JOIN text_answer ta ON ta.review_id = r.id
+            WHERE r.review_group_id = ?
+            UNION ALL
+            SELECT r.id, r.created_at, ca.question_id, NULL, cs.selected_option_id
+            FROM review r
+                     JOIN checkbox_answer ca ON ca.review_id = r.id
+                     JOIN checkbox_answer_selected_option cs ON cs.checkbox_answer_id = ca.id
+            WHERE r.review_group_id = ?
+            ORDER BY review_id, question_id, selected_option_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReviewExportReader(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    public void readAnswers(long reviewGroupId, Consumer<ReviewAnswerRow> consumer) {
+        RowCallbackHandler handler = resultSet -> consumer.accept(mapRow(resultSet));
+        jdbcTemplate.query(SELECT_ANSWERS, handler, reviewGroupId, reviewGroupId);
+    }
+
+    private ReviewAnswerRow mapRow(ResultSet resultSet) throws SQLException {
+        long selectedOptionId = resultSet.getLong("selected_option_id");
+        boolean textAnswer = resultSet.wasNull();
+        return new ReviewAnswerRow(
+                resultSet.getLong("review_id"),
+                resultSet.getTimestamp("created_at").toLocalDateTime(),
+                resultSet.getLong("question_id"),
+                resultSet.getString("content"),
+                textAnswer ? null : selectedOptionId
+        );
+    }
+}
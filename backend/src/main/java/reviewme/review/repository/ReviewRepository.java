@@ -1,11 +1,14 @@
 package reviewme.review.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import reviewme.review.domain.Review;
+import reviewme.review.repository.projection.ReviewListItem;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
@@ -17,5 +20,38 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
             """, nativeQuery = true)
     List<Review> findAllByGroupId(long reviewGroupId);
 
+    @Query("""
+            SELECT new reviewme.review.repository.projection.ReviewListItem(
+                r.id, r.createdAt, r.preview, r.categoryOptionIds
+            ) FROM Review r
+            WHERE r.reviewGroupId = :reviewGroupId
+            ORDER BY r.createdAt DESC, r.id DESC
+            """)
+    List<ReviewListItem> findListItemsByGroupId(long reviewGroupId, Pageable pageable);
+
+    @Query("""
+            SELECT new reviewme.review.repository.projection.ReviewListItem(
+                r.id, r.createdAt, r.preview, r.categoryOptionIds
+            ) FROM Review r
+            WHERE r.reviewGroupId = :reviewGroupId
+            AND (
+                r.createdAt < (SELECT c.createdAt FROM Review c WHERE c.id = :lastReviewId)
+                OR (
+                    r.createdAt = (SELECT c.createdAt FROM Review c WHERE c.id = :lastReviewId)
+                    AND r.id < :lastReviewId
+                )
+            )
+            ORDER BY r.createdAt DESC, r.id DESC
+            """)
+    List<ReviewListItem> findListItemsByGroupIdBeforeLastReviewId(long reviewGroupId, long lastReviewId,
+                                                                  Pageable pageable);
+
+    List<Review> findAllByPreviewIsNullAndIdGreaterThanOrderByIdAsc(long lastReviewId, Pageable pageable);
+
     Optional<Review> findByIdAndReviewGroupId(long reviewId, long reviewGroupId);
+
+    boolean existsByIdAndReviewGroupId(long reviewId, long reviewGroupId);
+
+    @Query("SELECT r.id FROM Review r WHERE r.id IN :reviewIds")
+    List<Long> findExistingIds(Collection<Long> reviewIds);
 }
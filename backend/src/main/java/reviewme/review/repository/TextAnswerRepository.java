@@ -1,9 +1,25 @@
 package reviewme.review.repository;
 
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import reviewme.review.domain.TextAnswer;
+import reviewme.review.repository.projection.TextAnswerPreview;
 
 @Repository
 public interface TextAnswerRepository extends JpaRepository<TextAnswer, Long> {
+
+    @Query("""
+            SELECT new reviewme.review.repository.projection.TextAnswerPreview(
+                t.reviewId, SUBSTRING(t.content, 1, :length)
+            ) FROM TextAnswer t
+            WHERE t.id IN (
+                SELECT MIN(f.id) FROM TextAnswer f
+                WHERE f.reviewId IN :reviewIds
+                GROUP BY f.reviewId
+            )
+            """)
+    List<TextAnswerPreview> findFirstAnswerPreviewsByReviewIds(Collection<Long> reviewIds, int length);
 }
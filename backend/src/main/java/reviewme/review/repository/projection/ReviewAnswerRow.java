@@ -0,0 +1,14 @@
+package reviewme.review.repository.projection;
+
+import jakarta.annotation.Nullable;
+import java.time.LocalDateTime;
+
+// 서술형 답변이면 content 가, 선택형 답변이면 선택한 선택지 하나가 담긴다.
+public record ReviewAnswerRow(
+        long reviewId,
+        LocalDateTime createdAt,
+        long questionId,
+        @Nullable String content,
+        @Nullable Long selectedOptionId
+) {
+}
@@ -0,0 +1,17 @@
+package reviewme.review.repository.projection;
+
+import jakarta.annotation.Nullable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ReviewListItem(
+        long reviewId,
+        LocalDateTime createdAt,
+        @Nullable String preview,
+        @Nullable List<Long> categoryOptionIds
+) {
+
+    public boolean isSummarized() {
+        return preview != null && categoryOptionIds != null;
+    }
+}
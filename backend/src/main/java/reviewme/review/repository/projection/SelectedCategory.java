@@ -0,0 +1,8 @@
+package reviewme.review.repository.projection;
+
+public record SelectedCategory(
+        long reviewId,
+        long optionId,
+        String content
+) {
+}
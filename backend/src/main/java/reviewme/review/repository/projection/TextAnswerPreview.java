@@ -0,0 +1,7 @@
+package reviewme.review.repository.projection;
+
+public record TextAnswerPreview(
+        long reviewId,
+        String content
+) {
+}
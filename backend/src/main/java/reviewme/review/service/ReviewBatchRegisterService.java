@@ -0,0 +1,88 @@
+package reviewme.review.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reviewme.global.exception.ReviewMeException;
+import reviewme.review.domain.Review;
+import reviewme.review.repository.ReviewBulkInserter;
+import reviewme.review.repository.ReviewRepository;
+import reviewme.review.service.dto.request.ReviewBatchRegisterRequest;
+import reviewme.review.service.dto.request.ReviewRegisterRequest;
+import reviewme.review.service.dto.response.register.ReviewBatchRegisterResponse;
+import reviewme.review.service.mapper.ReviewMapper;
+import reviewme.review.service.mapper.ReviewSummarizer;
+import reviewme.review.service.queue.QueuedReview;
+import reviewme.review.service.validator.ReviewValidator;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewBatchRegisterService {
+
+    private final ReviewMapper reviewMapper;
+    private final ReviewValidator reviewValidator;
+    private final ReviewSummarizer reviewSummarizer;
+    private final ReviewGroupStatsRecorder reviewGroupStatsRecorder;
+
+    private final ReviewBulkInserter reviewBulkInserter;
+    private final ReviewRepository reviewRepository;
+
+    @Transactional
+    public ReviewBatchRegisterResponse registerReviews(ReviewBatchRegisterRequest request) {
+        return new ReviewBatchRegisterResponse(importReviews(request.reviews()));
+    }
+
+    // 하나라도 검증에 실패하면 아무것도 저장하지 않는다.
+    @Transactional
+    public List<Long> importReviews(List<ReviewRegisterRequest> requests) {
+        List<Review> reviews = requests.stream()
+                .map(this::prepareReview)
+                .toList();
+        List<Long> reviewIds = reviewBulkInserter.insertAll(reviews);
+        reviewGroupStatsRecorder.record(reviews);
+        return reviewIds;
+    }
+
+    // 쓰기 지연 큐에서 꺼낸 리뷰를 저장한다. 제출할 때 검증했으므로 다시 검증하지 않는다.
+    // 재시도 중 이미 저장된 리뷰는 건너뛰고, 그 사이 리뷰 그룹이 사라져 매핑할 수 없는 리뷰는 버린다.
+    @Transactional
+    public void importQueuedReviews(List<QueuedReview> queuedReviews) {
+        List<Long> queuedReviewIds = queuedReviews.stream()
+                .map(QueuedReview::reviewId)
+                .toList();
+        Set<Long> savedReviewIds = new HashSet<>(reviewRepository.findExistingIds(queuedReviewIds));
+
+        List<Review> reviews = new ArrayList<>(queuedReviews.size());
+        long[] reviewIds = new long[queuedReviews.size()];
+        for (QueuedReview queuedReview : queuedReviews) {
+            if (savedReviewIds.contains(queuedReview.reviewId())) {
+                continue;
+            }
+            try {
+                Review review = reviewMapper.mapToReview(queuedReview.request(), queuedReview.submittedAt());
+                reviewSummarizer.summarize(review);
+                reviewIds[reviews.size()] = queuedReview.reviewId();
+                reviews.add(review);
+            } catch (ReviewMeException e) {
+                log.error("Dropped queued review that can no longer be mapped - reviewId: {}",
+                        queuedReview.reviewId(), e);
+            }
+        }
+        reviewBulkInserter.insertAll(reviews, Arrays.copyOf(reviewIds, reviews.size()));
+        reviewGroupStatsRecorder.record(reviews);
+    }
+
+    private Review prepareReview(ReviewRegisterRequest request) {
+        Review review = reviewMapper.mapToReview(request);
+        reviewValidator.validate(review);
+        reviewSummarizer.summarize(review);
+        return review;
+    }
+}
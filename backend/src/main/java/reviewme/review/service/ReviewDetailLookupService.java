@@ -7,11 +7,12 @@ import reviewme.review.domain.Review;
 import reviewme.review.service.exception.ReviewGroupNotFoundByReviewRequestCodeException;
 import reviewme.review.repository.ReviewRepository;
 import reviewme.review.service.dto.response.detail.ReviewDetailResponse;
-import reviewme.review.service.exception.ReviewGroupUnauthorizedException;
 import reviewme.review.service.exception.ReviewNotFoundByIdAndGroupException;
 import reviewme.review.service.mapper.ReviewDetailMapper;
-import reviewme.reviewgroup.domain.ReviewGroup;
-import reviewme.reviewgroup.repository.ReviewGroupRepository;
+import reviewme.reviewgroup.service.GroupAccessAuthorizer;
+import reviewme.reviewgroup.service.cache.ReviewGroupCache;
+import reviewme.reviewgroup.service.cache.ReviewGroupSnapshot;
+import reviewme.reviewgroup.service.dto.GroupAccessCredential;
 
 @Service
 @Transactional(readOnly = true)
@@ -19,15 +20,21 @@ import reviewme.reviewgroup.repository.ReviewGroupRepository;
 public class ReviewDetailLookupService {
 
     private final ReviewRepository reviewRepository;
-    private final ReviewGroupRepository reviewGroupRepository;
+    private final ReviewGroupCache reviewGroupCache;
+    private final GroupAccessAuthorizer groupAccessAuthorizer;
 
     private final ReviewDetailMapper reviewDetailMapper;
 
     public ReviewDetailResponse getReviewDetail(long reviewId, String reviewRequestCode, String groupAccessCode) {
-        ReviewGroup reviewGroup =  reviewGroupRepository.findByReviewRequestCode(reviewRequestCode)
+        return getReviewDetail(reviewId, reviewRequestCode, GroupAccessCredential.ofGroupAccessCode(groupAccessCode));
+    }
+
+    public ReviewDetailResponse getReviewDetail(long reviewId, String reviewRequestCode,
+                                                GroupAccessCredential credential) {
+        ReviewGroupSnapshot reviewGroup =  reviewGroupCache.findByReviewRequestCode(reviewRequestCode)
                 .orElseThrow(() -> new ReviewGroupNotFoundByReviewRequestCodeException(reviewRequestCode));
 
-        validateGroupAccessCode(reviewGroup, groupAccessCode);
+        groupAccessAuthorizer.authorize(reviewGroup, credential);
 
         Review review = reviewRepository.findByIdAndReviewGroupId(reviewId, reviewGroup.getId())
                 .orElseThrow(() -> new ReviewNotFoundByIdAndGroupException(reviewId, reviewGroup.getId()));
@@ -35,9 +42,16 @@ public class ReviewDetailLookupService {
         return reviewDetailMapper.mapToReviewDetailResponse(review, reviewGroup);
     }
 
-    private void validateGroupAccessCode(ReviewGroup reviewGroup, String groupAccessCode) {
-        if (!reviewGroup.matchesGroupAccessCode(groupAccessCode)) {
-            throw new ReviewGroupUnauthorizedException(reviewGroup.getId());
+    // 등록된 리뷰는 바뀌지 않으므로 리뷰 아이디와 템플릿, 리뷰이 정보만으로 ETag 를 만든다.
+    public String getReviewDetailETag(long reviewId, String reviewRequestCode, GroupAccessCredential credential) {
+        ReviewGroupSnapshot reviewGroup = reviewGroupCache.findByReviewRequestCode(reviewRequestCode)
+                .orElseThrow(() -> new ReviewGroupNotFoundByReviewRequestCodeException(reviewRequestCode));
+
+        groupAccessAuthorizer.authorize(reviewGroup, credential);
+
+        if (!reviewRepository.existsByIdAndReviewGroupId(reviewId, reviewGroup.getId())) {
+            throw new ReviewNotFoundByIdAndGroupException(reviewId, reviewGroup.getId());
         }
+        return "\"r%d-t%d-%s\"".formatted(reviewId, reviewGroup.getTemplateId(), reviewGroup.getProfileVersion());
     }
 }
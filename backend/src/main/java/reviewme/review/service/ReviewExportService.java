@@ -0,0 +1,66 @@
+package reviewme.review.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reviewme.review.repository.ReviewExportReader;
+import reviewme.review.service.exception.ReviewGroupNotFoundByReviewRequestCodeException;
+import reviewme.review.service.export.CsvReviewExportWriter;
+import reviewme.review.service.export.ExportedReviewAssembler;
+import reviewme.review.service.export.NdjsonReviewExportWriter;
+import reviewme.review.service.export.ReviewExportFormat;
+import reviewme.review.service.export.ReviewExportWriter;
+import reviewme.reviewgroup.service.GroupAccessAuthorizer;
+import reviewme.reviewgroup.service.cache.ReviewGroupCache;
+import reviewme.reviewgroup.service.cache.ReviewGroupSnapshot;
+import reviewme.reviewgroup.service.dto.GroupAccessCredential;
+import reviewme.template.service.cache.TemplateGraph;
+import reviewme.template.service.cache.TemplateGraphCache;
+import reviewme.template.service.exception.TemplateNotFoundByReviewGroupException;
+
+@Service
+@RequiredArgsConstructor
+public class ReviewExportService {
+
+    private final ReviewGroupCache reviewGroupCache;
+    private final TemplateGraphCache templateGraphCache;
+    private final GroupAccessAuthorizer groupAccessAuthorizer;
+    private final ReviewExportReader reviewExportReader;
+    private final ObjectMapper objectMapper;
+
+    // 응답을 쓰기 시작하면 상태 코드를 바꿀 수 없으므로 권한은 스트리밍 전에 확인한다.
+    public void authorizeExport(String reviewRequestCode, GroupAccessCredential credential) {
+        ReviewGroupSnapshot reviewGroup = findReviewGroupByRequestCodeOrThrow(reviewRequestCode);
+        groupAccessAuthorizer.authorize(reviewGroup, credential);
+    }
+
+    // 커서로 읽은 답변을 리뷰 단위로 바로 써 내보내므로, 리뷰 수와 관계없이 리뷰 하나만큼의 메모리만 쓴다.
+    public void export(String reviewRequestCode, ReviewExportFormat format, OutputStream outputStream)
+            throws IOException {
+        ReviewGroupSnapshot reviewGroup = findReviewGroupByRequestCodeOrThrow(reviewRequestCode);
+        TemplateGraph template = templateGraphCache.findTemplateGraph(reviewGroup.getTemplateId())
+                .orElseThrow(() -> new TemplateNotFoundByReviewGroupException(
+                        reviewGroup.getId(), reviewGroup.getTemplateId()
+                ));
+
+        ExportedReviewAssembler assembler = new ExportedReviewAssembler(
+                template, reviewGroup.getReviewee(), createWriter(format, outputStream)
+        );
+        reviewExportReader.readAnswers(reviewGroup.getId(), assembler);
+        assembler.finish();
+    }
+
+    private ReviewExportWriter createWriter(ReviewExportFormat format, OutputStream outputStream) {
+        return switch (format) {
+            case NDJSON -> new NdjsonReviewExportWriter(objectMapper, outputStream);
+            case CSV -> new CsvReviewExportWriter(outputStream);
+        };
+    }
+
+    private ReviewGroupSnapshot findReviewGroupByRequestCodeOrThrow(String reviewRequestCode) {
+        return reviewGroupCache.findByReviewRequestCode(reviewRequestCode)
+                .orElseThrow(() -> new ReviewGroupNotFoundByReviewRequestCodeException(reviewRequestCode));
+    }
+}
@@ -0,0 +1,71 @@
+package reviewme.review.service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reviewme.review.domain.Review;
+import reviewme.reviewgroup.domain.OptionSelectionCount;
+import reviewme.reviewgroup.repository.ReviewGroupStatsUpdater;
+import reviewme.template.service.cache.OptionItemNode;
+import reviewme.template.service.cache.TemplateGraph;
+import reviewme.template.service.cache.TemplateGraphCache;
+import reviewme.template.service.exception.TemplateNotFoundByReviewGroupException;
+
+// 저장하는 리뷰를 리뷰 그룹 집계에 더한다. 리뷰 저장과 같은 트랜잭션 안에서 호출해야 한다.
+@Component
+@RequiredArgsConstructor
+public class ReviewGroupStatsRecorder {
+
+    private final TemplateGraphCache templateGraphCache;
+    private final ReviewGroupStatsUpdater reviewGroupStatsUpdater;
+
+    public void record(Review review) {
+        record(List.of(review));
+    }
+
+    // 그룹마다 한 번씩만 갱신하고, 그룹 아이디 순으로 잠가 동시에 저장하는 요청끼리 교착되지 않게 한다.
+    public void record(List<Review> reviews) {
+        Map<Long, List<Review>> reviewsByGroup = reviews.stream()
+                .collect(Collectors.groupingBy(Review::getReviewGroupId, TreeMap::new, Collectors.toList()));
+        reviewsByGroup.forEach(this::recordGroup);
+    }
+
+    private void recordGroup(long reviewGroupId, List<Review> reviews) {
+        LocalDateTime lastReviewedAt = reviews.stream()
+                .map(Review::getCreatedAt)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+
+        Map<Long, OptionSelectionCount> selectionCounts = new HashMap<>();
+        for (Review review : reviews) {
+            TemplateGraph template = findTemplateGraphOrThrow(review);
+            review.getAllCheckBoxOptionIds()
+                    .forEach(optionId -> template.findOptionItem(optionId)
+                            .ifPresent(optionItem -> addSelection(selectionCounts, optionItem)));
+        }
+        reviewGroupStatsUpdater.increment(reviewGroupId, reviews.size(), lastReviewedAt, selectionCounts.values());
+    }
+
+    private void addSelection(Map<Long, OptionSelectionCount> selectionCounts, OptionItemNode optionItem) {
+        selectionCounts.merge(
+                optionItem.id(),
+                new OptionSelectionCount(optionItem.id(), optionItem.optionType(), 1),
+                (current, added) -> new OptionSelectionCount(
+                        current.optionId(), current.optionType(), current.count() + added.count()
+                )
+        );
+    }
+
+    private TemplateGraph findTemplateGraphOrThrow(Review review) {
+        return templateGraphCache.findTemplateGraph(review.getTemplateId())
+                .orElseThrow(() -> new TemplateNotFoundByReviewGroupException(
+                        review.getReviewGroupId(), review.getTemplateId()
+                ));
+    }
+}
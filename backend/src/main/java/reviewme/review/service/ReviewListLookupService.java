@@ -1,42 +1,71 @@
 package reviewme.review.service;
 
-import java.util.List;
+import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reviewme.review.service.exception.ReviewGroupNotFoundByReviewRequestCodeException;
 import reviewme.review.service.dto.response.list.ReceivedReviewsResponse;
-import reviewme.review.service.dto.response.list.ReviewListElementResponse;
-import reviewme.review.service.exception.ReviewGroupUnauthorizedException;
 import reviewme.review.service.mapper.ReviewListMapper;
-import reviewme.reviewgroup.domain.ReviewGroup;
-import reviewme.reviewgroup.repository.ReviewGroupRepository;
+import reviewme.reviewgroup.repository.ReviewGroupStatsRepository;
+import reviewme.reviewgroup.service.GroupAccessAuthorizer;
+import reviewme.reviewgroup.service.cache.ReviewGroupCache;
+import reviewme.reviewgroup.service.cache.ReviewGroupSnapshot;
+import reviewme.reviewgroup.service.dto.GroupAccessCredential;
 
 @Service
 @RequiredArgsConstructor
 public class ReviewListLookupService {
 
-    private final ReviewGroupRepository reviewGroupRepository;
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final ReviewGroupCache reviewGroupCache;
+    private final ReviewGroupStatsRepository reviewGroupStatsRepository;
     private final ReviewListMapper reviewListMapper;
+    private final GroupAccessAuthorizer groupAccessAuthorizer;
+
+    @Transactional(readOnly = true)
+    public ReceivedReviewsResponse getReceivedReviews(String reviewRequestCode, String groupAccessCode,
+                                                      @Nullable Long lastReviewId, @Nullable Integer size) {
+        return getReceivedReviews(
+                reviewRequestCode, GroupAccessCredential.ofGroupAccessCode(groupAccessCode), lastReviewId, size
+        );
+    }
 
     @Transactional(readOnly = true)
-    public ReceivedReviewsResponse getReceivedReviews(String reviewRequestCode, String groupAccessCode) {
-        ReviewGroup reviewGroup = findReviewGroupByRequestCodeOrThrow(reviewRequestCode);
-        validateGroupAccessCode(groupAccessCode, reviewGroup);
+    public ReceivedReviewsResponse getReceivedReviews(String reviewRequestCode, GroupAccessCredential credential,
+                                                      @Nullable Long lastReviewId, @Nullable Integer size) {
+        ReviewGroupSnapshot reviewGroup = findReviewGroupByRequestCodeOrThrow(reviewRequestCode);
+        groupAccessAuthorizer.authorize(reviewGroup, credential);
 
-        List<ReviewListElementResponse> reviewGroupResponse = reviewListMapper.mapToReviewList(reviewGroup);
-        return new ReceivedReviewsResponse(reviewGroup.getReviewee(), reviewGroup.getProjectName(),
-                reviewGroupResponse);
+        if (lastReviewId == null && size == null) {
+            return reviewListMapper.mapToAllReceivedReviews(reviewGroup);
+        }
+        return reviewListMapper.mapToReceivedReviews(reviewGroup, lastReviewId, resolvePageSize(size));
     }
 
-    private ReviewGroup findReviewGroupByRequestCodeOrThrow(String reviewRequestCode) {
-        return reviewGroupRepository.findByReviewRequestCode(reviewRequestCode)
-                .orElseThrow(() -> new ReviewGroupNotFoundByReviewRequestCodeException(reviewRequestCode));
+    // 리뷰는 수정되거나 삭제되지 않으므로 그룹 집계의 리뷰 수만으로 목록이 바뀌었는지 알 수 있다.
+    // 리뷰 테이블을 세지 않고 집계 행 하나만 읽어 ETag 를 만든다.
+    @Transactional(readOnly = true)
+    public String getReceivedReviewsETag(String reviewRequestCode, GroupAccessCredential credential) {
+        ReviewGroupSnapshot reviewGroup = findReviewGroupByRequestCodeOrThrow(reviewRequestCode);
+        groupAccessAuthorizer.authorize(reviewGroup, credential);
+
+        long reviewCount = reviewGroupStatsRepository.findReviewCountByReviewGroupId(reviewGroup.getId())
+                .orElse(0L);
+        return "\"g%d-%d-%s\"".formatted(reviewGroup.getId(), reviewCount, reviewGroup.getProfileVersion());
     }
 
-    private static void validateGroupAccessCode(String groupAccessCode, ReviewGroup reviewGroup) {
-        if (!reviewGroup.matchesGroupAccessCode(groupAccessCode)) {
-            throw new ReviewGroupUnauthorizedException(reviewGroup.getId());
+    private int resolvePageSize(@Nullable Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
         }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private ReviewGroupSnapshot findReviewGroupByRequestCodeOrThrow(String reviewRequestCode) {
+        return reviewGroupCache.findByReviewRequestCode(reviewRequestCode)
+                .orElseThrow(() -> new ReviewGroupNotFoundByReviewRequestCodeException(reviewRequestCode));
     }
 }
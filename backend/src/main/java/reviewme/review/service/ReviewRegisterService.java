@@ -7,6 +7,7 @@ import reviewme.review.domain.Review;
 import reviewme.review.repository.ReviewRepository;
 import reviewme.review.service.dto.request.ReviewRegisterRequest;
 import reviewme.review.service.mapper.ReviewMapper;
+import reviewme.review.service.mapper.ReviewSummarizer;
 import reviewme.review.service.validator.ReviewValidator;
 
 @Service
@@ -15,6 +16,8 @@ public class ReviewRegisterService {
 
     private final ReviewMapper reviewMapper;
     private final ReviewValidator reviewValidator;
+    private final ReviewSummarizer reviewSummarizer;
+    private final ReviewGroupStatsRecorder reviewGroupStatsRecorder;
 
     private final ReviewRepository reviewRepository;
 
@@ -22,7 +25,9 @@ public class ReviewRegisterService {
     public long registerReview(ReviewRegisterRequest request) {
         Review review = reviewMapper.mapToReview(request);
         reviewValidator.validate(review);
+        reviewSummarizer.summarize(review);
         Review registeredReview = reviewRepository.save(review);
+        reviewGroupStatsRecorder.record(registeredReview);
         return registeredReview.getId();
     }
 }
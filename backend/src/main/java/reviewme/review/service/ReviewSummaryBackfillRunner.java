@@ -0,0 +1,28 @@
+package reviewme.review.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewSummaryBackfillRunner {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final ReviewSummaryBackfillService reviewSummaryBackfillService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
+        int batchCount = 0;
+        long lastReviewId = reviewSummaryBackfillService.backfill(0L, BATCH_SIZE);
+        while (lastReviewId != ReviewSummaryBackfillService.NO_MORE_REVIEWS) {
+            batchCount++;
+            lastReviewId = reviewSummaryBackfillService.backfill(lastReviewId, BATCH_SIZE);
+        }
+        log.info("Review summary backfill finished - batchCount: {}", batchCount);
+    }
+}
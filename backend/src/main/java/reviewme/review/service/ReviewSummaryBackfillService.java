@@ -0,0 +1,47 @@
+package reviewme.review.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reviewme.global.exception.ReviewMeException;
+import reviewme.review.domain.Review;
+import reviewme.review.repository.ReviewRepository;
+import reviewme.review.service.mapper.ReviewSummarizer;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewSummaryBackfillService {
+
+    public static final long NO_MORE_REVIEWS = -1L;
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewSummarizer reviewSummarizer;
+
+    @Transactional
+    public long backfill(long lastReviewId, int batchSize) {
+        List<Review> reviews = reviewRepository.findAllByPreviewIsNullAndIdGreaterThanOrderByIdAsc(
+                lastReviewId, PageRequest.of(0, batchSize)
+        );
+        if (reviews.isEmpty()) {
+            return NO_MORE_REVIEWS;
+        }
+
+        for (Review review : reviews) {
+            summarize(review);
+        }
+        return reviews.get(reviews.size() - 1).getId();
+    }
+
+    private void summarize(Review review) {
+        try {
+            reviewSummarizer.summarize(review);
+        } catch (ReviewMeException e) {
+            // 요약하지 못한 리뷰는 목록 조회 시 답변에서 직접 미리보기를 만든다.
+            log.warn("Review summary backfill skipped - reviewId: {}, reason: {}", review.getId(), e.getErrorMessage());
+        }
+    }
+}
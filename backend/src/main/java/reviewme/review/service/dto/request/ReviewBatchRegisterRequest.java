@@ -0,0 +1,14 @@
+package reviewme.review.service.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record ReviewBatchRegisterRequest(
+
+        @NotEmpty(message = "등록할 리뷰를 입력해주세요.")
+        @Size(max = 1_000, message = "한 번에 최대 1,000개의 리뷰를 등록할 수 있어요.")
+        List<@Valid ReviewRegisterRequest> reviews
+) {
+}
@@ -5,6 +5,8 @@ import java.util.List;
 public record ReceivedReviewsResponse(
         String revieweeName,
         String projectName,
+        Long lastReviewId,
+        boolean isLastPage,
         List<ReviewListElementResponse> reviews
 ) {
 }
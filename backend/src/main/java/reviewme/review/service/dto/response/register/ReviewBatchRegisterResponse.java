@@ -0,0 +1,8 @@
+package reviewme.review.service.dto.response.register;
+
+import java.util.List;
+
+public record ReviewBatchRegisterResponse(
+        List<Long> reviewIds
+) {
+}
@@ -0,0 +1,26 @@
+package reviewme.review.service.exception;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reviewme.global.exception.BadRequestException;
+import reviewme.global.exception.ReviewMeException;
+
+@Slf4j
+@Getter
+public class ReviewValidationException extends BadRequestException {
+
+    private final List<BadRequestException> violations;
+
+    public ReviewValidationException(List<BadRequestException> violations) {
+        super(violations.get(0).getErrorMessage());
+        this.violations = List.copyOf(violations);
+        log.info("Review has invalid answers - violationCount: {}", violations.size());
+    }
+
+    public List<String> getErrorMessages() {
+        return violations.stream()
+                .map(ReviewMeException::getErrorMessage)
+                .toList();
+    }
+}
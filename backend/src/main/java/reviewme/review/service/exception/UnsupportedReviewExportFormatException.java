@@ -0,0 +1,13 @@
+package reviewme.review.service.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import reviewme.global.exception.BadRequestException;
+
+@Slf4j
+public class UnsupportedReviewExportFormatException extends BadRequestException {
+
+    public UnsupportedReviewExportFormatException(String format) {
+        super("지원하지 않는 내보내기 형식이에요.");
+        log.info("Unsupported review export format: {}", format);
+    }
+}
@@ -0,0 +1,74 @@
+package reviewme.review.service.export;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.List;
+
+// 답변 하나를 한 행으로 쓴다. 선택형 답변은 선택한 선택지를 한 칸에 이어 쓴다.
+public class CsvReviewExportWriter implements ReviewExportWriter {
+
+    // 엑셀이 한글을 UTF-8 로 읽도록 BOM 을 붙인다.
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final List<String> HEADER = List.of("review_id", "created_at", "question_id", "question", "answer");
+    private static final String OPTION_DELIMITER = ", ";
+
+    private final Writer writer;
+    private boolean headerWritten;
+
+    public CsvReviewExportWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8));
+    }
+
+    @Override
+    public void write(ExportedReview review) throws IOException {
+        writeHeaderIfAbsent();
+        for (ExportedAnswer answer : review.answers()) {
+            writeRow(List.of(
+                    String.valueOf(review.reviewId()),
+                    review.createdAt().toString(),
+                    String.valueOf(answer.questionId()),
+                    answer.question(),
+                    answer.text() != null ? answer.text() : String.join(OPTION_DELIMITER, answer.selectedOptions())
+            ));
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writeHeaderIfAbsent();
+        writer.flush();
+    }
+
+    private void writeHeaderIfAbsent() throws IOException {
+        if (headerWritten) {
+            return;
+        }
+        writer.write(BYTE_ORDER_MARK);
+        writeRow(HEADER);
+        headerWritten = true;
+    }
+
+    private void writeRow(List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(fields.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    // 따옴표로 감싸 쉼표와 줄바꿈을 보존하고, 수식으로 실행되지 않도록 수식 기호로 시작하면 작은따옴표를 붙인다.
+    static String escape(String field) {
+        String value = field;
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
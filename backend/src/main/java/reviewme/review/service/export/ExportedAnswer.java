@@ -0,0 +1,16 @@
+package reviewme.review.service.export;
+
+import jakarta.annotation.Nullable;
+import java.util.List;
+
+public record ExportedAnswer(
+
+        long questionId,
+        String question,
+
+        @Nullable
+        String text,
+
+        List<String> selectedOptions
+) {
+}
@@ -0,0 +1,12 @@
+package reviewme.review.service.export;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ExportedReview(
+
+        long reviewId,
+        LocalDateTime createdAt,
+        List<ExportedAnswer> answers
+) {
+}
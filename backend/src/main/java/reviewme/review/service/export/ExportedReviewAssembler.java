@@ -0,0 +1,96 @@
+package reviewme.review.service.export;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import reviewme.review.repository.projection.ReviewAnswerRow;
+import reviewme.template.service.cache.OptionItemNode;
+import reviewme.template.service.cache.QuestionNode;
+import reviewme.template.service.cache.SectionNode;
+import reviewme.template.service.cache.TemplateGraph;
+
+// 리뷰 아이디 순으로 정렬된 답변 행을 리뷰 단위로 모아 내보낸다. 메모리에는 지금 모으는 리뷰 하나만 둔다.
+public class ExportedReviewAssembler implements Consumer<ReviewAnswerRow> {
+
+    private final TemplateGraph template;
+    private final ReviewExportWriter writer;
+    private final Map<Long, String> questionContents = new HashMap<>();
+    private final Map<Long, Integer> questionOrders = new HashMap<>();
+
+    private final Map<Long, String> texts = new HashMap<>();
+    private final Map<Long, List<String>> selectedOptions = new HashMap<>();
+    private long reviewId;
+    private LocalDateTime createdAt;
+
+    public ExportedReviewAssembler(TemplateGraph template, String revieweeName, ReviewExportWriter writer) {
+        this.template = template;
+        this.writer = writer;
+        for (SectionNode section : template.sections()) {
+            for (QuestionNode question : section.questions()) {
+                questionOrders.putIfAbsent(question.id(), questionOrders.size());
+                questionContents.putIfAbsent(question.id(), question.renderContent(revieweeName));
+            }
+        }
+    }
+
+    @Override
+    public void accept(ReviewAnswerRow row) {
+        if (createdAt == null || row.reviewId() != reviewId) {
+            writeReview();
+            reviewId = row.reviewId();
+            createdAt = row.createdAt();
+        }
+        if (row.selectedOptionId() == null) {
+            texts.put(row.questionId(), row.content());
+            return;
+        }
+        String optionContent = template.findOptionItem(row.selectedOptionId())
+                .map(OptionItemNode::content)
+                .orElse("");
+        selectedOptions.computeIfAbsent(row.questionId(), questionId -> new ArrayList<>())
+                .add(optionContent);
+    }
+
+    public void finish() throws IOException {
+        writeReview();
+        writer.flush();
+    }
+
+    private void writeReview() {
+        if (createdAt == null) {
+            return;
+        }
+        List<ExportedAnswer> answers = Stream.concat(texts.keySet().stream(), selectedOptions.keySet().stream())
+                .sorted(Comparator.comparingInt(this::findQuestionOrder))
+                .map(this::toExportedAnswer)
+                .toList();
+        try {
+            writer.write(new ExportedReview(reviewId, createdAt, answers));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write exported review: " + reviewId, e);
+        }
+        texts.clear();
+        selectedOptions.clear();
+    }
+
+    // 템플릿에 없는 질문의 답변은 뒤로 보낸다.
+    private int findQuestionOrder(long questionId) {
+        return questionOrders.getOrDefault(questionId, Integer.MAX_VALUE);
+    }
+
+    private ExportedAnswer toExportedAnswer(long questionId) {
+        return new ExportedAnswer(
+                questionId,
+                questionContents.getOrDefault(questionId, ""),
+                texts.get(questionId),
+                List.copyOf(selectedOptions.getOrDefault(questionId, List.of()))
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package reviewme.review.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+// 리뷰 하나를 JSON 한 줄로 쓴다.
+public class NdjsonReviewExportWriter implements ReviewExportWriter {
+
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final ObjectMapper objectMapper;
+    private final OutputStream outputStream;
+
+    public NdjsonReviewExportWriter(ObjectMapper objectMapper, OutputStream outputStream) {
+        this.objectMapper = objectMapper;
+        this.outputStream = new BufferedOutputStream(outputStream);
+    }
+
+    @Override
+    public void write(ExportedReview review) throws IOException {
+        outputStream.write(objectMapper.writeValueAsBytes(review));
+        outputStream.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        outputStream.flush();
+    }
+}
@@ -0,0 +1,25 @@
+package reviewme.review.service.export;
+
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reviewme.review.service.exception.UnsupportedReviewExportFormatException;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReviewExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv;charset=UTF-8", "csv"),
+    ;
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    public static ReviewExportFormat from(String format) {
+        return Arrays.stream(values())
+                .filter(value -> value.fileExtension.equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new UnsupportedReviewExportFormatException(format));
+    }
+}
@@ -0,0 +1,10 @@
+package reviewme.review.service.export;
+
+import java.io.IOException;
+
+public interface ReviewExportWriter {
+
+    void write(ExportedReview review) throws IOException;
+
+    void flush() throws IOException;
+}
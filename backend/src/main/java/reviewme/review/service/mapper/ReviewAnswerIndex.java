@@ -0,0 +1,64 @@
+package reviewme.review.service.mapper;
+
+import jakarta.annotation.Nullable;
+import java.util.List;
+import reviewme.review.domain.CheckBoxAnswerSelectedOption;
+import reviewme.review.domain.CheckboxAnswer;
+import reviewme.review.domain.Review;
+import reviewme.review.domain.TextAnswer;
+import reviewme.util.collection.LongObjectHashMap;
+import reviewme.util.collection.SortedLongArraySet;
+
+// 리뷰 상세를 한 번에 그리기 위해 답변을 질문 아이디로 색인해 둔다.
+final class ReviewAnswerIndex {
+
+    private final LongObjectHashMap<TextAnswer> textAnswers;
+    private final LongObjectHashMap<CheckboxAnswer> checkboxAnswers;
+    private final SortedLongArraySet selectedOptionIds;
+
+    private ReviewAnswerIndex(LongObjectHashMap<TextAnswer> textAnswers,
+                              LongObjectHashMap<CheckboxAnswer> checkboxAnswers,
+                              SortedLongArraySet selectedOptionIds) {
+        this.textAnswers = textAnswers;
+        this.checkboxAnswers = checkboxAnswers;
+        this.selectedOptionIds = selectedOptionIds;
+    }
+
+    static ReviewAnswerIndex from(Review review) {
+        List<TextAnswer> reviewTextAnswers = review.getTextAnswers();
+        LongObjectHashMap<TextAnswer> textAnswers = new LongObjectHashMap<>(reviewTextAnswers.size());
+        for (TextAnswer textAnswer : reviewTextAnswers) {
+            textAnswers.putIfAbsent(textAnswer.getQuestionId(), textAnswer);
+        }
+
+        List<CheckboxAnswer> reviewCheckboxAnswers = review.getCheckboxAnswers();
+        LongObjectHashMap<CheckboxAnswer> checkboxAnswers = new LongObjectHashMap<>(reviewCheckboxAnswers.size());
+        int selectedOptionCount = 0;
+        for (CheckboxAnswer checkboxAnswer : reviewCheckboxAnswers) {
+            checkboxAnswers.putIfAbsent(checkboxAnswer.getQuestionId(), checkboxAnswer);
+            selectedOptionCount += checkboxAnswer.getSelectedOptionIds().size();
+        }
+
+        long[] selectedOptionIds = new long[selectedOptionCount];
+        int index = 0;
+        for (CheckboxAnswer checkboxAnswer : reviewCheckboxAnswers) {
+            for (CheckBoxAnswerSelectedOption selectedOption : checkboxAnswer.getSelectedOptionIds()) {
+                selectedOptionIds[index++] = selectedOption.getSelectedOptionId();
+            }
+        }
+        return new ReviewAnswerIndex(textAnswers, checkboxAnswers, SortedLongArraySet.of(selectedOptionIds));
+    }
+
+    @Nullable
+    TextAnswer findTextAnswer(long questionId) {
+        return textAnswers.get(questionId);
+    }
+
+    boolean hasCheckboxAnswer(long questionId) {
+        return checkboxAnswers.containsKey(questionId);
+    }
+
+    boolean isSelectedOption(long optionId) {
+        return selectedOptionIds.contains(optionId);
+    }
+}
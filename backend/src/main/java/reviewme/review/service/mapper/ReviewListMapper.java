@@ -1,53 +1,147 @@
 package reviewme.review.service.mapper;
 
+import jakarta.annotation.Nullable;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
-import reviewme.question.domain.OptionItem;
 import reviewme.question.domain.OptionType;
-import reviewme.question.repository.OptionItemRepository;
-import reviewme.review.domain.Review;
+import reviewme.review.repository.CheckboxAnswerRepository;
 import reviewme.review.repository.ReviewRepository;
+import reviewme.review.repository.TextAnswerRepository;
+import reviewme.review.repository.projection.ReviewListItem;
+import reviewme.review.repository.projection.SelectedCategory;
+import reviewme.review.repository.projection.TextAnswerPreview;
+import reviewme.review.service.dto.response.list.ReceivedReviewsResponse;
 import reviewme.review.service.dto.response.list.ReviewCategoryResponse;
 import reviewme.review.service.dto.response.list.ReviewListElementResponse;
-import reviewme.reviewgroup.domain.ReviewGroup;
+import reviewme.reviewgroup.service.cache.ReviewGroupSnapshot;
+import reviewme.template.service.cache.TemplateGraph;
+import reviewme.template.service.cache.TemplateGraphCache;
+import reviewme.template.service.exception.TemplateNotFoundByReviewGroupException;
 
 @Component
 @RequiredArgsConstructor
 public class ReviewListMapper {
 
     private final ReviewRepository reviewRepository;
-    private final OptionItemRepository optionItemRepository;
+    private final TextAnswerRepository textAnswerRepository;
+    private final CheckboxAnswerRepository checkboxAnswerRepository;
+    private final TemplateGraphCache templateGraphCache;
 
     private final ReviewPreviewGenerator reviewPreviewGenerator = new ReviewPreviewGenerator();
 
-    public List<ReviewListElementResponse> mapToReviewList(ReviewGroup reviewGroup) {
-        List<OptionItem> categoryOptionIds = optionItemRepository.findAllByOptionType(OptionType.CATEGORY);
-        return reviewRepository.findAllByGroupId(reviewGroup.getId())
-                .stream()
-                .map(review -> mapToReviewListElementResponse(review, categoryOptionIds))
-                .toList();
+    public ReceivedReviewsResponse mapToReceivedReviews(ReviewGroupSnapshot reviewGroup, @Nullable Long lastReviewId,
+                                                        int size) {
+        // 다음 페이지가 있는지 알기 위해 한 건을 더 조회한다.
+        List<ReviewListItem> reviews = findReviews(reviewGroup.getId(), lastReviewId, PageRequest.of(0, size + 1));
+        boolean isLastPage = reviews.size() <= size;
+        List<ReviewListItem> page = isLastPage ? reviews : reviews.subList(0, size);
+
+        return mapToReceivedReviews(reviewGroup, page, isLastPage);
     }
 
-    private ReviewListElementResponse mapToReviewListElementResponse(Review review,
-                                                                     List<OptionItem> categoryOptionItems) {
-        List<ReviewCategoryResponse> categoryResponses = mapToCategoryOptionResponse(review, categoryOptionItems);
+    // 페이지를 지정하지 않은 이전 클라이언트에게는 그룹의 리뷰를 모두 한 번에 응답한다.
+    public ReceivedReviewsResponse mapToAllReceivedReviews(ReviewGroupSnapshot reviewGroup) {
+        List<ReviewListItem> reviews = reviewRepository.findListItemsByGroupId(reviewGroup.getId(), Pageable.unpaged());
+        return mapToReceivedReviews(reviewGroup, reviews, true);
+    }
+
+    private ReceivedReviewsResponse mapToReceivedReviews(ReviewGroupSnapshot reviewGroup, List<ReviewListItem> page,
+                                                         boolean isLastPage) {
+        List<ReviewListElementResponse> reviewResponses = mapToReviewListElementResponses(reviewGroup, page);
+        Long nextLastReviewId = page.isEmpty() ? null : page.get(page.size() - 1).reviewId();
 
-        return new ReviewListElementResponse(
-                review.getId(),
-                review.getCreatedDate(),
-                reviewPreviewGenerator.generatePreview(review.getTextAnswers()),
-                categoryResponses
+        return new ReceivedReviewsResponse(
+                reviewGroup.getReviewee(),
+                reviewGroup.getProjectName(),
+                nextLastReviewId,
+                isLastPage,
+                reviewResponses
         );
     }
 
-    private List<ReviewCategoryResponse> mapToCategoryOptionResponse(Review review,
-                                                                            List<OptionItem> categoryOptionItems) {
-        Set<Long> checkBoxOptionIds = review.getAllCheckBoxOptionIds();
-        return categoryOptionItems.stream()
-                .filter(optionItem -> checkBoxOptionIds.contains(optionItem.getId()))
-                .map(optionItem -> new ReviewCategoryResponse(optionItem.getId(), optionItem.getContent()))
+    private List<ReviewListItem> findReviews(long reviewGroupId, @Nullable Long lastReviewId, Pageable pageable) {
+        if (lastReviewId == null) {
+            return reviewRepository.findListItemsByGroupId(reviewGroupId, pageable);
+        }
+        return reviewRepository.findListItemsByGroupIdBeforeLastReviewId(reviewGroupId, lastReviewId, pageable);
+    }
+
+    private List<ReviewListElementResponse> mapToReviewListElementResponses(ReviewGroupSnapshot reviewGroup,
+                                                                          List<ReviewListItem> reviews) {
+        TemplateGraph template = templateGraphCache.findTemplateGraph(reviewGroup.getTemplateId())
+                .orElseThrow(() -> new TemplateNotFoundByReviewGroupException(
+                        reviewGroup.getId(), reviewGroup.getTemplateId()
+                ));
+        NotSummarizedReviews notSummarizedReviews = findNotSummarizedReviews(reviews);
+
+        return reviews.stream()
+                .map(review -> new ReviewListElementResponse(
+                        review.reviewId(),
+                        review.createdAt().toLocalDate(),
+                        mapToPreview(review, notSummarizedReviews),
+                        mapToCategoryResponses(review, template, notSummarizedReviews)
+                ))
+                .toList();
+    }
+
+    private String mapToPreview(ReviewListItem review, NotSummarizedReviews notSummarizedReviews) {
+        if (review.isSummarized()) {
+            return review.preview();
+        }
+        String answer = notSummarizedReviews.previews().getOrDefault(review.reviewId(), "");
+        return reviewPreviewGenerator.generatePreview(answer);
+    }
+
+    private List<ReviewCategoryResponse> mapToCategoryResponses(ReviewListItem review, TemplateGraph template,
+                                                                NotSummarizedReviews notSummarizedReviews) {
+        if (!review.isSummarized()) {
+            return notSummarizedReviews.categories().getOrDefault(review.reviewId(), List.of());
+        }
+        return review.categoryOptionIds()
+                .stream()
+                .map(template::findOptionItem)
+                .flatMap(Optional::stream)
+                .map(optionItem -> new ReviewCategoryResponse(optionItem.id(), optionItem.content()))
+                .toList();
+    }
+
+    // 요약이 채워지기 전에 저장된 리뷰만 답변에서 미리보기와 카테고리를 읽는다.
+    private NotSummarizedReviews findNotSummarizedReviews(List<ReviewListItem> reviews) {
+        List<Long> reviewIds = reviews.stream()
+                .filter(review -> !review.isSummarized())
+                .map(ReviewListItem::reviewId)
                 .toList();
+        if (reviewIds.isEmpty()) {
+            return new NotSummarizedReviews(Map.of(), Map.of());
+        }
+
+        Map<Long, String> previews = textAnswerRepository.findFirstAnswerPreviewsByReviewIds(
+                        reviewIds, ReviewPreviewGenerator.PREVIEW_READ_LENGTH
+                )
+                .stream()
+                .collect(Collectors.toMap(TextAnswerPreview::reviewId, TextAnswerPreview::content));
+        Map<Long, List<ReviewCategoryResponse>> categories = checkboxAnswerRepository
+                .findSelectedOptionsByReviewIds(reviewIds, OptionType.CATEGORY)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        SelectedCategory::reviewId,
+                        Collectors.mapping(
+                                category -> new ReviewCategoryResponse(category.optionId(), category.content()),
+                                Collectors.toList()
+                        )
+                ));
+        return new NotSummarizedReviews(previews, categories);
+    }
+
+    private record NotSummarizedReviews(
+            Map<Long, String> previews,
+            Map<Long, List<ReviewCategoryResponse>> categories
+    ) {
     }
 }
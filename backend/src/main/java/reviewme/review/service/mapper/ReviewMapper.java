@@ -1,80 +1,103 @@
 package reviewme.review.service.mapper;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import reviewme.question.domain.Question;
 import reviewme.question.domain.QuestionType;
 import reviewme.question.repository.QuestionRepository;
 import reviewme.review.domain.CheckboxAnswer;
 import reviewme.review.domain.Review;
 import reviewme.review.domain.TextAnswer;
 import reviewme.review.service.exception.ReviewGroupNotFoundByReviewRequestCodeException;
+import reviewme.review.service.exception.SubmittedQuestionAndProvidedQuestionMismatchException;
 import reviewme.review.service.dto.request.ReviewAnswerRequest;
 import reviewme.review.service.dto.request.ReviewRegisterRequest;
-import reviewme.reviewgroup.domain.ReviewGroup;
-import reviewme.reviewgroup.repository.ReviewGroupRepository;
-import reviewme.template.domain.Template;
+import reviewme.reviewgroup.service.cache.ReviewGroupCache;
+import reviewme.reviewgroup.service.cache.ReviewGroupSnapshot;
 import reviewme.template.service.exception.TemplateNotFoundByReviewGroupException;
-import reviewme.template.repository.TemplateRepository;
+import reviewme.template.service.cache.TemplateGraph;
+import reviewme.template.service.cache.TemplateGraphCache;
 
 @Component
 @RequiredArgsConstructor
 public class ReviewMapper {
 
     private final AnswerMapper answerMapper;
-    private final ReviewGroupRepository reviewGroupRepository;
+    private final ReviewGroupCache reviewGroupCache;
     private final QuestionRepository questionRepository;
-    private final TemplateRepository templateRepository;
+    private final TemplateGraphCache templateGraphCache;
 
     public Review mapToReview(ReviewRegisterRequest request) {
-        ReviewGroup reviewGroup = findReviewGroupByRequestCodeOrThrow(request.reviewRequestCode());
-        Template template = findTemplateByReviewGroupOrThrow(reviewGroup);
+        return mapToReview(request, LocalDateTime.now());
+    }
+
+    // 쓰기 지연 큐에서 꺼낸 리뷰는 제출 시각을 그대로 작성 시각으로 쓴다.
+    public Review mapToReview(ReviewRegisterRequest request, LocalDateTime createdAt) {
+        ReviewGroupSnapshot reviewGroup = findReviewGroupByRequestCodeOrThrow(request.reviewRequestCode());
+        TemplateGraph template = findTemplateByReviewGroupOrThrow(reviewGroup);
 
         List<TextAnswer> textAnswers = new ArrayList<>();
         List<CheckboxAnswer> checkboxAnswers = new ArrayList<>();
-        addAnswersByQuestionType(request, textAnswers, checkboxAnswers);
+        addAnswersByQuestionType(request, template, textAnswers, checkboxAnswers);
 
-        return new Review(template.getId(), reviewGroup.getId(), textAnswers, checkboxAnswers);
+        return new Review(template.templateId(), reviewGroup.getId(), textAnswers, checkboxAnswers, createdAt);
     }
 
-    private ReviewGroup findReviewGroupByRequestCodeOrThrow(String reviewRequestCode) {
-        return reviewGroupRepository.findByReviewRequestCode(reviewRequestCode)
+    private ReviewGroupSnapshot findReviewGroupByRequestCodeOrThrow(String reviewRequestCode) {
+        return reviewGroupCache.findByReviewRequestCode(reviewRequestCode)
                 .orElseThrow(() -> new ReviewGroupNotFoundByReviewRequestCodeException(reviewRequestCode));
     }
 
-    private Template findTemplateByReviewGroupOrThrow(ReviewGroup reviewGroup) {
-        return templateRepository.findById(reviewGroup.getTemplateId())
+    private TemplateGraph findTemplateByReviewGroupOrThrow(ReviewGroupSnapshot reviewGroup) {
+        return templateGraphCache.findTemplateGraph(reviewGroup.getTemplateId())
                 .orElseThrow(() -> new TemplateNotFoundByReviewGroupException(
                         reviewGroup.getId(), reviewGroup.getTemplateId()));
     }
 
-    private void addAnswersByQuestionType(ReviewRegisterRequest request,
+    private void addAnswersByQuestionType(ReviewRegisterRequest request, TemplateGraph template,
                                           List<TextAnswer> textAnswers, List<CheckboxAnswer> checkboxAnswers) {
-        List<Long> questionIds = request.answers()
-                .stream()
-                .map(ReviewAnswerRequest::questionId)
-                .toList();
-
-        Map<Long, Question> questionMap = questionRepository.findAllById(questionIds)
-                .stream()
-                .collect(Collectors.toMap(Question::getId, question -> question));
+        Map<Long, QuestionType> questionTypes = findQuestionTypes(request, template);
 
         for (ReviewAnswerRequest answerRequest : request.answers()) {
-            Question question = questionMap.get(answerRequest.questionId());
+            QuestionType questionType = questionTypes.get(answerRequest.questionId());
 
-            if (question.getQuestionType() == QuestionType.TEXT) {
+            if (questionType == QuestionType.TEXT) {
                 TextAnswer textAnswer = answerMapper.mapToTextAnswer(answerRequest);
                 textAnswers.add(textAnswer);
             }
 
-            if (question.getQuestionType() == QuestionType.CHECKBOX) {
+            if (questionType == QuestionType.CHECKBOX) {
                 CheckboxAnswer checkboxAnswer = answerMapper.mapToCheckBoxAnswer(answerRequest);
                 checkboxAnswers.add(checkboxAnswer);
             }
         }
     }
+
+    // 템플릿에 없는 질문에 답한 경우에만 저장소에서 질문을 찾는다. 검증기가 불일치를 알려줄 수 있도록 매핑은 해 둔다.
+    // 저장소에도 없는 질문이라면 매핑할 수 없으므로 바로 예외를 던진다.
+    private Map<Long, QuestionType> findQuestionTypes(ReviewRegisterRequest request, TemplateGraph template) {
+        Map<Long, QuestionType> questionTypes = new HashMap<>();
+        List<Long> unknownQuestionIds = new ArrayList<>();
+        for (ReviewAnswerRequest answerRequest : request.answers()) {
+            template.findQuestion(answerRequest.questionId()).ifPresentOrElse(
+                    question -> questionTypes.put(question.id(), question.questionType()),
+                    () -> unknownQuestionIds.add(answerRequest.questionId())
+            );
+        }
+        if (unknownQuestionIds.isEmpty()) {
+            return questionTypes;
+        }
+        questionRepository.findAllById(unknownQuestionIds)
+                .forEach(question -> questionTypes.put(question.getId(), question.getQuestionType()));
+        if (!questionTypes.keySet().containsAll(unknownQuestionIds)) {
+            throw new SubmittedQuestionAndProvidedQuestionMismatchException(
+                    unknownQuestionIds, template.questions().keySet()
+            );
+        }
+        return questionTypes;
+    }
 }
@@ -8,11 +8,17 @@ public class ReviewPreviewGenerator {
     private static final int PREVIEW_LENGTH = 150;
     private static final String ELLIPSIS = "...";
 
+    // 미리보기를 자를지 판단하기 위해 한 글자를 더 읽는다.
+    public static final int PREVIEW_READ_LENGTH = PREVIEW_LENGTH + 1;
+
     public String generatePreview(List<TextAnswer> reviewTextAnswers) {
         if (reviewTextAnswers.isEmpty()) {
             return "";
         }
-        String answer = reviewTextAnswers.get(0).getContent();
+        return generatePreview(reviewTextAnswers.get(0).getContent());
+    }
+
+    public String generatePreview(String answer) {
         if (answer.length() > PREVIEW_LENGTH) {
             return answer.substring(0, PREVIEW_LENGTH) + ELLIPSIS;
         }
@@ -0,0 +1,41 @@
+package reviewme.review.service.mapper;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reviewme.question.domain.OptionType;
+import reviewme.review.domain.Review;
+import reviewme.template.service.cache.TemplateGraph;
+import reviewme.template.service.cache.TemplateGraphCache;
+import reviewme.template.service.exception.TemplateNotFoundByReviewGroupException;
+
+@Component
+@RequiredArgsConstructor
+public class ReviewSummarizer {
+
+    private final TemplateGraphCache templateGraphCache;
+
+    private final ReviewPreviewGenerator reviewPreviewGenerator = new ReviewPreviewGenerator();
+
+    public void summarize(Review review) {
+        TemplateGraph template = templateGraphCache.findTemplateGraph(review.getTemplateId())
+                .orElseThrow(() -> new TemplateNotFoundByReviewGroupException(
+                        review.getReviewGroupId(), review.getTemplateId()
+                ));
+
+        String preview = reviewPreviewGenerator.generatePreview(review.getTextAnswers());
+        List<Long> categoryOptionIds = review.getAllCheckBoxOptionIds()
+                .stream()
+                .filter(optionId -> isCategoryOption(template, optionId))
+                .sorted()
+                .boxed()
+                .toList();
+        review.summarize(preview, categoryOptionIds);
+    }
+
+    private boolean isCategoryOption(TemplateGraph template, long optionId) {
+        return template.findOptionItem(optionId)
+                .filter(optionItem -> optionItem.optionType() == OptionType.CATEGORY)
+                .isPresent();
+    }
+}
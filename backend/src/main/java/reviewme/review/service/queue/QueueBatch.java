@@ -0,0 +1,15 @@
+package reviewme.review.service.queue;
+
+import java.util.List;
+
+// 큐에서 한 번에 꺼낸 리뷰와, 저장을 마쳤을 때 확정할 파일 위치
+public record QueueBatch(
+        List<QueuedReview> reviews,
+        long startOffset,
+        long endOffset
+) {
+
+    public boolean isEmpty() {
+        return startOffset == endOffset;
+    }
+}
@@ -0,0 +1,11 @@
+package reviewme.review.service.queue;
+
+import java.time.LocalDateTime;
+import reviewme.review.service.dto.request.ReviewRegisterRequest;
+
+public record QueuedReview(
+        long reviewId,
+        LocalDateTime submittedAt,
+        ReviewRegisterRequest request
+) {
+}
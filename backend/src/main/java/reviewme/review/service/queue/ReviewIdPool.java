@@ -0,0 +1,37 @@
+package reviewme.review.service.queue;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reviewme.review.domain.IdSequence;
+import reviewme.review.repository.IdBlockAllocator;
+
+// 큐에 넣기 전에 리뷰 아이디를 정해 두기 위해 id_sequence 에서 블록을 받아 메모리에서 나눠준다.
+@Component
+@ConditionalOnProperty(prefix = "review.write-behind", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReviewIdPool {
+
+    private final IdBlockAllocator idBlockAllocator;
+
+    // 블록을 받는 동안 DB 를 기다리므로 가상 스레드를 고정시키는 synchronized 대신 락을 쓴다.
+    private final Lock lock = new ReentrantLock();
+
+    private long nextId = 1;
+    private long lastId = 0;
+
+    public long next() {
+        lock.lock();
+        try {
+            if (nextId > lastId) {
+                nextId = idBlockAllocator.allocate(IdSequence.REVIEW, IdSequence.ALLOCATION_SIZE);
+                lastId = nextId + IdSequence.ALLOCATION_SIZE - 1;
+            }
+            return nextId++;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package reviewme.review.service.queue;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reviewme.config.properties.ReviewWriteBehindProperties;
+import reviewme.review.service.ReviewBatchRegisterService;
+
+// 큐 파일에 쌓인 리뷰를 한 스레드에서 배치로 저장한다. 실패하면 큐를 그대로 두고 점점 간격을 늘려 다시 시도한다.
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "review.write-behind", name = "enabled", havingValue = "true")
+public class ReviewQueueDrainer {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ReviewSubmissionQueue reviewSubmissionQueue;
+    private final ReviewBatchRegisterService reviewBatchRegisterService;
+    private final ReviewWriteBehindProperties properties;
+    private final ScheduledExecutorService executor;
+
+    private Duration retryDelay = Duration.ZERO;
+    private Instant nextAttemptAt = Instant.MIN;
+
+    public ReviewQueueDrainer(ReviewSubmissionQueue reviewSubmissionQueue,
+                              ReviewBatchRegisterService reviewBatchRegisterService,
+                              ReviewWriteBehindProperties properties) {
+        this.reviewSubmissionQueue = reviewSubmissionQueue;
+        this.reviewBatchRegisterService = reviewBatchRegisterService;
+        this.properties = properties;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "review-queue-drainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long intervalMillis = properties.drainInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::drainWithRetry, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 저장한 리뷰 수를 돌려준다. 큐가 빌 때까지 배치를 이어서 저장한다.
+    public synchronized int drain() {
+        int drainedCount = 0;
+        while (true) {
+            QueueBatch batch = reviewSubmissionQueue.readPending(properties.batchSize());
+            if (batch.isEmpty()) {
+                return drainedCount;
+            }
+            if (!batch.reviews().isEmpty()) {
+                reviewBatchRegisterService.importQueuedReviews(batch.reviews());
+            }
+            reviewSubmissionQueue.acknowledge(batch.endOffset());
+            drainedCount += batch.reviews().size();
+        }
+    }
+
+    private void drainWithRetry() {
+        if (Instant.now().isBefore(nextAttemptAt)) {
+            return;
+        }
+        try {
+            drain();
+            retryDelay = Duration.ZERO;
+        } catch (RuntimeException e) {
+            retryDelay = nextRetryDelay();
+            nextAttemptAt = Instant.now().plus(retryDelay);
+            log.warn("Failed to drain review submission queue - pendingBytes: {}, retryIn: {}",
+                    reviewSubmissionQueue.getPendingBytes(), retryDelay, e);
+        }
+    }
+
+    private Duration nextRetryDelay() {
+        if (retryDelay.isZero()) {
+            return properties.drainInterval();
+        }
+        Duration doubled = retryDelay.multipliedBy(2);
+        return doubled.compareTo(properties.maxRetryDelay()) < 0 ? doubled : properties.maxRetryDelay();
+    }
+
+    // 종료 전에 한 번 더 비워 본다. 실패해도 큐 파일에 남아 있으므로 다음 기동 때 저장된다.
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.warn("Review submission queue was not fully drained on shutdown - pendingBytes: {}",
+                    reviewSubmissionQueue.getPendingBytes(), e);
+        }
+    }
+}
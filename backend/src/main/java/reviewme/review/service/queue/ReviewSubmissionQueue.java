@@ -0,0 +1,235 @@
+package reviewme.review.service.queue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reviewme.config.properties.ReviewWriteBehindProperties;
+
+// 제출된 리뷰를 한 줄에 하나씩 JSON 으로 덧붙이는 로컬 큐 파일.
+// 어디까지 저장했는지는 옆의 .offset 파일에 기록하고, 모두 저장되면 파일을 비운다.
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "review.write-behind", name = "enabled", havingValue = "true")
+public class ReviewSubmissionQueue {
+
+    private static final byte LINE_SEPARATOR = '\n';
+    private static final int SCAN_BUFFER_SIZE = 4_096;
+
+    private final ObjectMapper objectMapper;
+    private final Path queueFile;
+    private final Path offsetFile;
+    private final FileChannel channel;
+
+    // 기록할 때 fsync 를 기다리므로 가상 스레드를 고정시키는 synchronized 대신 락을 쓴다.
+    private final Lock lock = new ReentrantLock();
+
+    private long size;
+    private long drainedOffset;
+
+    public ReviewSubmissionQueue(ReviewWriteBehindProperties properties, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.queueFile = properties.queueFile().toAbsolutePath();
+        this.offsetFile = queueFile.resolveSibling(queueFile.getFileName() + ".offset");
+        try {
+            Files.createDirectories(queueFile.getParent());
+            this.channel = FileChannel.open(queueFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open review submission queue: " + queueFile, e);
+        }
+    }
+
+    // 기록 도중 종료되어 남은 마지막 불완전한 줄은 응답하지 않은 요청이므로 잘라낸다.
+    private void recover() throws IOException {
+        size = findLastLineEnd();
+        if (channel.size() > size) {
+            log.warn("Truncated incomplete review submission - queueFile: {}, bytes: {}", queueFile,
+                    channel.size() - size);
+            channel.truncate(size);
+            channel.force(true);
+        }
+        drainedOffset = Math.min(readOffset(), size);
+        log.info("Review submission queue opened - queueFile: {}, pendingBytes: {}", queueFile, size - drainedOffset);
+    }
+
+    private long findLastLineEnd() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long position = channel.size();
+        while (position > 0) {
+            int length = (int) Math.min(SCAN_BUFFER_SIZE, position);
+            position -= length;
+            buffer.clear().limit(length);
+            readFully(buffer, position);
+            for (int i = length - 1; i >= 0; i--) {
+                if (buffer.get(i) == LINE_SEPARATOR) {
+                    return position + i + 1;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        long readPosition = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, readPosition);
+            if (read < 0) {
+                throw new IOException("Unexpected end of review submission queue: " + queueFile);
+            }
+            readPosition += read;
+        }
+    }
+
+    // 디스크에 기록된 뒤에야 반환하므로, 응답을 받은 리뷰는 프로세스가 죽어도 사라지지 않는다.
+    public void append(QueuedReview queuedReview) {
+        ByteBuffer buffer = ByteBuffer.wrap(serialize(queuedReview));
+        lock.lock();
+        try {
+            long position = size;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            channel.force(false);
+            size = position;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append review submission: " + queuedReview.reviewId(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private byte[] serialize(QueuedReview queuedReview) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(queuedReview);
+            byte[] line = new byte[json.length + 1];
+            System.arraycopy(json, 0, line, 0, json.length);
+            line[json.length] = LINE_SEPARATOR;
+            return line;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize review submission: " + queuedReview.reviewId(), e);
+        }
+    }
+
+    // 아직 저장되지 않은 리뷰를 앞에서부터 최대 maxCount 개 읽는다. acknowledge 전까지는 같은 리뷰를 다시 돌려준다.
+    public QueueBatch readPending(int maxCount) {
+        long startOffset;
+        long endOffset;
+        lock.lock();
+        try {
+            startOffset = drainedOffset;
+            endOffset = size;
+        } finally {
+            lock.unlock();
+        }
+        if (startOffset == endOffset) {
+            return new QueueBatch(List.of(), startOffset, endOffset);
+        }
+
+        List<QueuedReview> reviews = new ArrayList<>();
+        try (FileChannel reader = FileChannel.open(queueFile, StandardOpenOption.READ)) {
+            InputStream input = new BufferedInputStream(Channels.newInputStream(reader.position(startOffset)));
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            long position = startOffset;
+            while (position < endOffset && reviews.size() < maxCount) {
+                int read = input.read();
+                position++;
+                if (read != LINE_SEPARATOR) {
+                    line.write(read);
+                    continue;
+                }
+                deserialize(line.toByteArray(), position).ifPresent(reviews::add);
+                line.reset();
+            }
+            return new QueueBatch(reviews, startOffset, position);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read review submission queue: " + queueFile, e);
+        }
+    }
+
+    // 읽을 수 없는 줄은 다시 읽어도 마찬가지이므로 로그만 남기고 건너뛴다.
+    private Optional<QueuedReview> deserialize(byte[] line, long lineEnd) {
+        try {
+            return Optional.of(objectMapper.readValue(line, QueuedReview.class));
+        } catch (IOException e) {
+            log.error("Skipped unreadable review submission - queueFile: {}, lineEnd: {}, line: {}",
+                    queueFile, lineEnd, new String(line, StandardCharsets.UTF_8), e);
+            return Optional.empty();
+        }
+    }
+
+    // offset 까지 저장을 마쳤음을 기록한다. 모두 저장했다면 파일을 비워 큐가 계속 커지지 않게 한다.
+    // 위치 파일을 먼저 0 으로 쓰고 파일을 자르므로, 그 사이에 종료되면 이미 저장한 리뷰를 다시 읽을 뿐 잃지는 않는다.
+    public void acknowledge(long offset) {
+        lock.lock();
+        try {
+            if (offset < size) {
+                drainedOffset = offset;
+                writeOffset(offset);
+                return;
+            }
+            writeOffset(0);
+            channel.truncate(0);
+            channel.force(true);
+            size = 0;
+            drainedOffset = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to acknowledge review submission queue: " + queueFile, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getPendingBytes() {
+        lock.lock();
+        try {
+            return size - drainedOffset;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long readOffset() throws IOException {
+        if (Files.notExists(offsetFile)) {
+            return 0;
+        }
+        String offset = Files.readString(offsetFile).trim();
+        return offset.isEmpty() ? 0 : Long.parseLong(offset);
+    }
+
+    private void writeOffset(long offset) throws IOException {
+        Path temporaryFile = offsetFile.resolveSibling(offsetFile.getFileName() + ".tmp");
+        try (FileChannel writer = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writer.write(ByteBuffer.wrap(Long.toString(offset).getBytes(StandardCharsets.UTF_8)));
+            writer.force(true);
+        }
+        Files.move(temporaryFile, offsetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,32 @@
+package reviewme.review.service.queue;
+
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reviewme.review.domain.Review;
+import reviewme.review.service.dto.request.ReviewRegisterRequest;
+import reviewme.review.service.mapper.ReviewMapper;
+import reviewme.review.service.validator.ReviewValidator;
+
+// 요청 스레드에서는 캐시된 템플릿으로 검증한 뒤 큐 파일에 기록만 하고, 저장은 ReviewQueueDrainer 에 맡긴다.
+@Service
+@ConditionalOnProperty(prefix = "review.write-behind", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReviewWriteBehindService {
+
+    private final ReviewMapper reviewMapper;
+    private final ReviewValidator reviewValidator;
+    private final ReviewIdPool reviewIdPool;
+    private final ReviewSubmissionQueue reviewSubmissionQueue;
+
+    public long registerReview(ReviewRegisterRequest request) {
+        LocalDateTime submittedAt = LocalDateTime.now();
+        Review review = reviewMapper.mapToReview(request, submittedAt);
+        reviewValidator.validate(review);
+
+        long reviewId = reviewIdPool.next();
+        reviewSubmissionQueue.append(new QueuedReview(reviewId, submittedAt, request));
+        return reviewId;
+    }
+}
@@ -1,69 +1,52 @@
 package reviewme.review.service.validator;
 
-import java.util.HashSet;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import reviewme.question.domain.OptionGroup;
-import reviewme.question.domain.OptionItem;
-import reviewme.question.domain.Question;
-import reviewme.question.repository.OptionGroupRepository;
-import reviewme.question.repository.OptionItemRepository;
-import reviewme.question.repository.QuestionRepository;
 import reviewme.review.domain.CheckBoxAnswerSelectedOption;
 import reviewme.review.domain.CheckboxAnswer;
-import reviewme.review.service.exception.OptionGroupNotFoundByQuestionIdException;
 import reviewme.review.service.exception.CheckBoxAnswerIncludedNotProvidedOptionItemException;
+import reviewme.review.service.exception.OptionGroupNotFoundByQuestionIdException;
 import reviewme.review.service.exception.SelectedOptionItemCountOutOfRangeException;
-import reviewme.review.service.exception.SubmittedQuestionNotFoundException;
 
 @Component
-@RequiredArgsConstructor
 public class CheckBoxAnswerValidator {
 
-    private final QuestionRepository questionRepository;
-    private final OptionGroupRepository optionGroupRepository;
-    private final OptionItemRepository optionItemRepository;
-
-    public void validate(CheckboxAnswer checkboxAnswer) {
-        Question question = questionRepository.findById(checkboxAnswer.getQuestionId())
-                .orElseThrow(() -> new SubmittedQuestionNotFoundException(checkboxAnswer.getQuestionId()));
-
-        OptionGroup optionGroup = optionGroupRepository.findByQuestionId(question.getId())
-                .orElseThrow(() -> new OptionGroupNotFoundByQuestionIdException(question.getId()));
+    public void validate(CheckboxAnswer checkboxAnswer, QuestionRule rule) {
+        if (!rule.hasOptionGroup()) {
+            throw new OptionGroupNotFoundByQuestionIdException(rule.getQuestionId());
+        }
 
-        validateOnlyIncludingProvidedOptionItem(checkboxAnswer, optionGroup);
-        validateCheckedOptionItemCount(checkboxAnswer, optionGroup);
+        List<CheckBoxAnswerSelectedOption> selectedOptions = checkboxAnswer.getSelectedOptionIds();
+        validateOnlyIncludingProvidedOptionItem(checkboxAnswer, rule, selectedOptions);
+        validateCheckedOptionItemCount(checkboxAnswer, rule, selectedOptions.size());
     }
 
-    private void validateOnlyIncludingProvidedOptionItem(CheckboxAnswer checkboxAnswer, OptionGroup optionGroup) {
-        List<Long> providedOptionItemIds = optionItemRepository.findAllByOptionGroupId(optionGroup.getId())
-                .stream()
-                .map(OptionItem::getId)
-                .toList();
-        List<Long> answeredOptionItemIds = extractAnsweredOptionItemIds(checkboxAnswer);
-
-        if (!new HashSet<>(providedOptionItemIds).containsAll(answeredOptionItemIds)) {
-            throw new CheckBoxAnswerIncludedNotProvidedOptionItemException(
-                    checkboxAnswer.getQuestionId(), providedOptionItemIds, answeredOptionItemIds
-            );
+    private void validateOnlyIncludingProvidedOptionItem(CheckboxAnswer checkboxAnswer, QuestionRule rule,
+                                                         List<CheckBoxAnswerSelectedOption> selectedOptions) {
+        for (CheckBoxAnswerSelectedOption selectedOption : selectedOptions) {
+            if (!rule.isAllowedOptionId(selectedOption.getSelectedOptionId())) {
+                throw new CheckBoxAnswerIncludedNotProvidedOptionItemException(
+                        checkboxAnswer.getQuestionId(),
+                        rule.getAllowedOptionIds(),
+                        extractAnsweredOptionItemIds(checkboxAnswer)
+                );
+            }
         }
     }
 
-    private void validateCheckedOptionItemCount(CheckboxAnswer checkboxAnswer, OptionGroup optionGroup) {
-        int answeredOptionItemCount = extractAnsweredOptionItemIds(checkboxAnswer).size();
-
-        if (answeredOptionItemCount < optionGroup.getMinSelectionCount()
-            || answeredOptionItemCount > optionGroup.getMaxSelectionCount()) {
+    private void validateCheckedOptionItemCount(CheckboxAnswer checkboxAnswer, QuestionRule rule,
+                                                int answeredOptionItemCount) {
+        if (!rule.isSelectionCountInRange(answeredOptionItemCount)) {
             throw new SelectedOptionItemCountOutOfRangeException(
                     checkboxAnswer.getQuestionId(),
                     answeredOptionItemCount,
-                    optionGroup.getMinSelectionCount(),
-                    optionGroup.getMaxSelectionCount()
+                    rule.getMinSelectionCount(),
+                    rule.getMaxSelectionCount()
             );
         }
     }
 
+    // 예외 메시지에 담을 때만 박싱된 목록을 만든다.
     private List<Long> extractAnsweredOptionItemIds(CheckboxAnswer checkboxAnswer) {
         return checkboxAnswer.getSelectedOptionIds()
                 .stream()
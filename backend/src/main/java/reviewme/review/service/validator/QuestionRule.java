@@ -0,0 +1,79 @@
+package reviewme.review.service.validator;
+
+import jakarta.annotation.Nullable;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import reviewme.question.domain.QuestionType;
+import reviewme.template.service.cache.OptionGroupNode;
+import reviewme.template.service.cache.OptionItemNode;
+import reviewme.template.service.cache.QuestionNode;
+import reviewme.util.collection.SortedLongArraySet;
+
+@Getter
+public final class QuestionRule {
+
+    private static final int ZERO_LENGTH = 0;
+    private static final int REQUIRED_TEXT_MIN_LENGTH = 20;
+    private static final int TEXT_MAX_LENGTH = 1_000;
+
+    private final long questionId;
+    private final QuestionType questionType;
+    private final boolean required;
+    private final int minTextLength;
+    private final int maxTextLength;
+
+    @Getter(AccessLevel.NONE)
+    private final boolean hasOptionGroup;
+
+    private final int minSelectionCount;
+    private final int maxSelectionCount;
+
+    // 한 선택지 그룹의 id 는 대체로 연속적이므로 대부분 비트셋으로 확인한다.
+    @Getter(AccessLevel.NONE)
+    private final SortedLongArraySet allowedOptionIds;
+
+    private QuestionRule(QuestionNode question, @Nullable OptionGroupNode optionGroup) {
+        this.questionId = question.id();
+        this.questionType = question.questionType();
+        this.required = question.required();
+        this.minTextLength = question.required() ? REQUIRED_TEXT_MIN_LENGTH : ZERO_LENGTH;
+        this.maxTextLength = TEXT_MAX_LENGTH;
+        this.hasOptionGroup = optionGroup != null;
+        this.minSelectionCount = hasOptionGroup ? optionGroup.minSelectionCount() : 0;
+        this.maxSelectionCount = hasOptionGroup ? optionGroup.maxSelectionCount() : 0;
+        this.allowedOptionIds = hasOptionGroup ? toOptionIdSet(optionGroup) : SortedLongArraySet.empty();
+    }
+
+    public static QuestionRule from(QuestionNode question) {
+        return new QuestionRule(question, question.optionGroup());
+    }
+
+    private static SortedLongArraySet toOptionIdSet(OptionGroupNode optionGroup) {
+        long[] optionIds = optionGroup.optionItems()
+                .stream()
+                .mapToLong(OptionItemNode::id)
+                .toArray();
+        return SortedLongArraySet.of(optionIds);
+    }
+
+    public boolean hasOptionGroup() {
+        return hasOptionGroup;
+    }
+
+    public boolean isTextLengthInRange(int length) {
+        return minTextLength <= length && length <= maxTextLength;
+    }
+
+    public boolean isSelectionCountInRange(int count) {
+        return minSelectionCount <= count && count <= maxSelectionCount;
+    }
+
+    public boolean isAllowedOptionId(long optionId) {
+        return allowedOptionIds.contains(optionId);
+    }
+
+    public List<Long> getAllowedOptionIds() {
+        return allowedOptionIds.toList();
+    }
+}
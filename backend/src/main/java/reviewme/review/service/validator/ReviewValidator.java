@@ -2,20 +2,17 @@ package reviewme.review.service.validator;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import reviewme.question.domain.Question;
-import reviewme.question.repository.QuestionRepository;
+import reviewme.global.exception.BadRequestException;
 import reviewme.review.domain.CheckboxAnswer;
 import reviewme.review.domain.Review;
 import reviewme.review.domain.TextAnswer;
 import reviewme.review.service.exception.MissingRequiredQuestionException;
+import reviewme.review.service.exception.ReviewValidationException;
 import reviewme.review.service.exception.SubmittedQuestionAndProvidedQuestionMismatchException;
-import reviewme.template.domain.Section;
-import reviewme.template.domain.SectionQuestion;
-import reviewme.template.repository.SectionRepository;
+import reviewme.template.service.exception.TemplateNotFoundByReviewGroupException;
 
 @Component
 @RequiredArgsConstructor
@@ -24,52 +21,68 @@ public class ReviewValidator {
     private final TextAnswerValidator textAnswerValidator;
     private final CheckBoxAnswerValidator checkBoxAnswerValidator;
 
-    private final SectionRepository sectionRepository;
-    private final QuestionRepository questionRepository;
+    private final ValidationRuleTableCache validationRuleTableCache;
 
     public void validate(Review review) {
-        validateAnswer(review.getTextAnswers(), review.getCheckboxAnswers());
-        validateAllAnswersContainedInTemplate(review);
-        validateAllRequiredQuestionsAnswered(review);
-    }
+        ValidationRuleTable ruleTable = validationRuleTableCache.findRuleTable(review.getTemplateId())
+                .orElseThrow(() -> new TemplateNotFoundByReviewGroupException(
+                        review.getReviewGroupId(), review.getTemplateId()
+                ));
 
-    private void validateAnswer(List<TextAnswer> textAnswers, List<CheckboxAnswer> checkboxAnswers) {
-        textAnswers.forEach(textAnswerValidator::validate);
-        checkboxAnswers.forEach(checkBoxAnswerValidator::validate);
-    }
+        List<BadRequestException> violations = new ArrayList<>();
+        validateAnswers(review, ruleTable, violations);
+        validateAllRequiredQuestionsAnswered(review, ruleTable, violations);
 
-    private void validateAllAnswersContainedInTemplate(Review review) {
-        Set<Long> providedQuestionIds = questionRepository.findAllQuestionIdByTemplateId(review.getTemplateId());
-        Set<Long> reviewedQuestionIds = review.getAnsweredQuestionIds();
-        if (!providedQuestionIds.containsAll(reviewedQuestionIds)) {
-            throw new SubmittedQuestionAndProvidedQuestionMismatchException(reviewedQuestionIds, providedQuestionIds);
+        if (!violations.isEmpty()) {
+            throw new ReviewValidationException(violations);
         }
     }
 
-    private void validateAllRequiredQuestionsAnswered(Review review) {
-        Set<Long> displayedQuestionIds = extractDisplayedQuestionIds(review);
-        Set<Long> requiredQuestionIds = questionRepository.findAllById(displayedQuestionIds)
-                .stream()
-                .filter(Question::isRequired)
-                .map(Question::getId)
-                .collect(Collectors.toSet());
+    private void validateAnswers(Review review, ValidationRuleTable ruleTable, List<BadRequestException> violations) {
+        List<Long> notProvidedQuestionIds = new ArrayList<>();
+
+        for (TextAnswer textAnswer : review.getTextAnswers()) {
+            Optional<QuestionRule> rule = ruleTable.findQuestionRule(textAnswer.getQuestionId());
+            if (rule.isEmpty()) {
+                notProvidedQuestionIds.add(textAnswer.getQuestionId());
+                continue;
+            }
+            collectViolation(() -> textAnswerValidator.validate(textAnswer, rule.get()), violations);
+        }
+
+        for (CheckboxAnswer checkboxAnswer : review.getCheckboxAnswers()) {
+            Optional<QuestionRule> rule = ruleTable.findQuestionRule(checkboxAnswer.getQuestionId());
+            if (rule.isEmpty()) {
+                notProvidedQuestionIds.add(checkboxAnswer.getQuestionId());
+                continue;
+            }
+            collectViolation(() -> checkBoxAnswerValidator.validate(checkboxAnswer, rule.get()), violations);
+        }
 
-        Set<Long> reviewedQuestionIds = review.getAnsweredQuestionIds();
-        if (!reviewedQuestionIds.containsAll(requiredQuestionIds)) {
-            List<Long> missingRequiredQuestionIds = new ArrayList<>(requiredQuestionIds);
-            missingRequiredQuestionIds.removeAll(reviewedQuestionIds);
-            throw new MissingRequiredQuestionException(missingRequiredQuestionIds);
+        if (!notProvidedQuestionIds.isEmpty()) {
+            violations.add(new SubmittedQuestionAndProvidedQuestionMismatchException(
+                    notProvidedQuestionIds, ruleTable.getQuestionIds()
+            ));
         }
     }
 
-    private Set<Long> extractDisplayedQuestionIds(Review review) {
-        Set<Long> selectedOptionIds = review.getAllCheckBoxOptionIds();
-        List<Section> sections = sectionRepository.findAllByTemplateId(review.getTemplateId());
+    private void validateAllRequiredQuestionsAnswered(Review review, ValidationRuleTable ruleTable,
+                                                      List<BadRequestException> violations) {
+        List<Long> missingRequiredQuestionIds = ruleTable.findMissingRequiredQuestionIds(
+                review.getAllCheckBoxOptionIds(), review.getAnsweredQuestionIds()
+        );
 
-        return sections.stream()
-                .filter(section -> section.isVisibleBySelectedOptionIds(selectedOptionIds))
-                .flatMap(section -> section.getQuestionIds().stream())
-                .map(SectionQuestion::getQuestionId)
-                .collect(Collectors.toSet());
+        if (!missingRequiredQuestionIds.isEmpty()) {
+            violations.add(new MissingRequiredQuestionException(missingRequiredQuestionIds));
+        }
+    }
+
+    // 답변 단위 검증은 모두 수행한 뒤 한 번에 응답하기 위해 실패를 모아 둔다
+    private void collectViolation(Runnable validation, List<BadRequestException> violations) {
+        try {
+            validation.run();
+        } catch (BadRequestException violation) {
+            violations.add(violation);
+        }
     }
 }
@@ -0,0 +1,28 @@
+package reviewme.review.service.validator;
+
+import reviewme.template.service.cache.QuestionNode;
+import reviewme.template.service.cache.SectionNode;
+import reviewme.util.collection.LongHashSet;
+
+record SectionRule(
+        SectionNode section,
+        long[] requiredQuestionIds
+) {
+
+    static SectionRule from(SectionNode section) {
+        long[] requiredQuestionIds = section.questions()
+                .stream()
+                .filter(QuestionNode::required)
+                .mapToLong(QuestionNode::id)
+                .toArray();
+        return new SectionRule(section, requiredQuestionIds);
+    }
+
+    boolean isVisibleBySelectedOptionIds(LongHashSet selectedOptionIds) {
+        return section.isVisibleBySelectedOptionIds(selectedOptionIds);
+    }
+
+    boolean hasRequiredQuestion() {
+        return requiredQuestionIds.length > 0;
+    }
+}
@@ -0,0 +1,67 @@
+package reviewme.review.service.validator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import reviewme.template.service.cache.TemplateGraph;
+import reviewme.util.collection.LongHashSet;
+import reviewme.util.collection.LongObjectHashMap;
+
+public final class ValidationRuleTable {
+
+    private final TemplateGraph templateGraph;
+    private final LongObjectHashMap<QuestionRule> questionRules;
+    private final List<Long> questionIds;
+    private final List<SectionRule> sectionRules;
+
+    private ValidationRuleTable(TemplateGraph templateGraph, LongObjectHashMap<QuestionRule> questionRules,
+                                List<SectionRule> sectionRules) {
+        this.templateGraph = templateGraph;
+        this.questionRules = questionRules;
+        this.questionIds = List.copyOf(templateGraph.questions().keySet());
+        this.sectionRules = sectionRules;
+    }
+
+    public static ValidationRuleTable compile(TemplateGraph templateGraph) {
+        LongObjectHashMap<QuestionRule> questionRules = new LongObjectHashMap<>(templateGraph.questions().size());
+        templateGraph.questions()
+                .forEach((questionId, question) -> questionRules.put(questionId, QuestionRule.from(question)));
+
+        List<SectionRule> sectionRules = templateGraph.sections()
+                .stream()
+                .map(SectionRule::from)
+                .filter(SectionRule::hasRequiredQuestion)
+                .toList();
+
+        return new ValidationRuleTable(templateGraph, questionRules, sectionRules);
+    }
+
+    public boolean isCompiledFrom(TemplateGraph templateGraph) {
+        return this.templateGraph == templateGraph;
+    }
+
+    public Optional<QuestionRule> findQuestionRule(long questionId) {
+        return Optional.ofNullable(questionRules.get(questionId));
+    }
+
+    public List<Long> getQuestionIds() {
+        return questionIds;
+    }
+
+    public List<Long> findMissingRequiredQuestionIds(LongHashSet selectedOptionIds,
+                                                     LongHashSet answeredQuestionIds) {
+        LongHashSet missingRequiredQuestionIds = new LongHashSet();
+        List<Long> orderedMissingRequiredQuestionIds = new ArrayList<>();
+        for (SectionRule sectionRule : sectionRules) {
+            if (!sectionRule.isVisibleBySelectedOptionIds(selectedOptionIds)) {
+                continue;
+            }
+            for (long questionId : sectionRule.requiredQuestionIds()) {
+                if (!answeredQuestionIds.contains(questionId) && missingRequiredQuestionIds.add(questionId)) {
+                    orderedMissingRequiredQuestionIds.add(questionId);
+                }
+            }
+        }
+        return orderedMissingRequiredQuestionIds;
+    }
+}
@@ -0,0 +1,35 @@
+package reviewme.review.service.validator;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reviewme.template.service.cache.TemplateGraph;
+import reviewme.template.service.cache.TemplateGraphCache;
+
+@Component
+@RequiredArgsConstructor
+public class ValidationRuleTableCache {
+
+    private final TemplateGraphCache templateGraphCache;
+
+    private final Map<Long, ValidationRuleTable> ruleTables = new ConcurrentHashMap<>();
+
+    public Optional<ValidationRuleTable> findRuleTable(long templateId) {
+        return templateGraphCache.findTemplateGraph(templateId)
+                .map(this::getOrCompile);
+    }
+
+    private ValidationRuleTable getOrCompile(TemplateGraph templateGraph) {
+        ValidationRuleTable cached = ruleTables.get(templateGraph.templateId());
+        // 템플릿 그래프가 다시 적재되었다면 이전 그래프로 만든 규칙은 버리고 새로 만든다.
+        if (cached != null && cached.isCompiledFrom(templateGraph)) {
+            return cached;
+        }
+
+        ValidationRuleTable compiled = ValidationRuleTable.compile(templateGraph);
+        ruleTables.put(templateGraph.templateId(), compiled);
+        return compiled;
+    }
+}
@@ -2,30 +2,68 @@ package reviewme.reviewgroup.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reviewme.global.HeaderProperty;
 import reviewme.reviewgroup.service.ReviewGroupLookupService;
 import reviewme.reviewgroup.service.ReviewGroupService;
+import reviewme.reviewgroup.service.ReviewGroupStatsService;
+import reviewme.reviewgroup.service.cache.ReviewGroupSnapshot;
 import reviewme.reviewgroup.service.dto.CheckValidAccessRequest;
 import reviewme.reviewgroup.service.dto.CheckValidAccessResponse;
+import reviewme.reviewgroup.service.dto.GroupAccessCredential;
+import reviewme.reviewgroup.service.dto.KeywordRankingResponse;
 import reviewme.reviewgroup.service.dto.ReviewGroupCreationRequest;
 import reviewme.reviewgroup.service.dto.ReviewGroupCreationResponse;
 import reviewme.reviewgroup.service.dto.ReviewGroupResponse;
+import reviewme.reviewgroup.service.dto.ReviewGroupStatsResponse;
 
 @RestController
 @RequiredArgsConstructor
 public class ReviewGroupController {
 
+    private static final String GROUP_ACCESS_CODE_HEADER = "GroupAccessCode";
+    private static final String GROUP_ACCESS_TOKEN_HEADER = "GroupAccessToken";
+
     private final ReviewGroupService reviewGroupService;
     private final ReviewGroupLookupService reviewGroupLookupService;
+    private final ReviewGroupStatsService reviewGroupStatsService;
 
     @GetMapping("/v2/groups")
     public ResponseEntity<ReviewGroupResponse> getReviewGroupSummary(@RequestParam String reviewRequestCode) {
         ReviewGroupResponse response = reviewGroupLookupService.getReviewGroupSummary(reviewRequestCode);
+        // ETag 가 일치하면 본문 없이 304 로 응답한다.
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(ReviewGroupSnapshot.profileVersionOf(response.revieweeName(), response.projectName()))
+                .body(response);
+    }
+
+    @GetMapping("/v2/groups/stats")
+    public ResponseEntity<ReviewGroupStatsResponse> getReviewGroupStats(
+            @RequestParam String reviewRequestCode,
+            @HeaderProperty(value = GROUP_ACCESS_CODE_HEADER, required = false) String groupAccessCode,
+            @HeaderProperty(value = GROUP_ACCESS_TOKEN_HEADER, required = false) String groupAccessToken
+    ) {
+        GroupAccessCredential credential = GroupAccessCredential.of(groupAccessCode, groupAccessToken);
+        ReviewGroupStatsResponse response = reviewGroupStatsService.getReviewGroupStats(reviewRequestCode, credential);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/v2/groups/keywords")
+    public ResponseEntity<KeywordRankingResponse> getTopKeywords(
+            @RequestParam String reviewRequestCode,
+            @RequestParam(required = false) Integer limit,
+            @HeaderProperty(value = GROUP_ACCESS_CODE_HEADER, required = false) String groupAccessCode,
+            @HeaderProperty(value = GROUP_ACCESS_TOKEN_HEADER, required = false) String groupAccessToken
+    ) {
+        GroupAccessCredential credential = GroupAccessCredential.of(groupAccessCode, groupAccessToken);
+        KeywordRankingResponse response = reviewGroupStatsService.getTopKeywords(reviewRequestCode, credential, limit);
         return ResponseEntity.ok(response);
     }
 
@@ -33,6 +33,6 @@ public class GroupAccessCode {
     }
 
     public boolean matches(String groupAccessCode) {
-        return code.equals(Encoder.encode(groupAccessCode));
+        return Encoder.matches(groupAccessCode, Encoder.decodeHexadecimal(code));
     }
 }
@@ -0,0 +1,10 @@
+package reviewme.reviewgroup.domain;
+
+import reviewme.question.domain.OptionType;
+
+public record OptionSelectionCount(
+        long optionId,
+        OptionType optionType,
+        long count
+) {
+}
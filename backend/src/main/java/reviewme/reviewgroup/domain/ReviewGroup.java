@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -14,7 +15,9 @@ import reviewme.review.domain.exception.InvalidProjectNameLengthException;
 import reviewme.review.domain.exception.InvalidRevieweeNameLengthException;
 
 @Entity
-@Table(name = "review_group")
+@Table(name = "review_group", indexes = {
+        @Index(name = "uk_review_group_request_code", columnList = "review_request_code", unique = true)
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class ReviewGroup {
@@ -0,0 +1,42 @@
+package reviewme.reviewgroup.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import reviewme.question.domain.OptionType;
+
+// 리뷰 그룹에서 카테고리, 키워드 선택지가 선택된 횟수.
+@Entity
+@Table(name = "review_group_option_stats", indexes = {
+        @Index(name = "uk_review_group_option_stats_option", columnList = "review_group_id, option_id", unique = true)
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ReviewGroupOptionStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "review_group_id", nullable = false)
+    private long reviewGroupId;
+
+    @Column(name = "option_id", nullable = false)
+    private long optionId;
+
+    @Column(name = "option_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OptionType optionType;
+
+    @Column(name = "selected_count", nullable = false)
+    private long selectedCount;
+}
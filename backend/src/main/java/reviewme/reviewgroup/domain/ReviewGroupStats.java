@@ -0,0 +1,36 @@
+package reviewme.reviewgroup.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 리뷰 그룹이 받은 리뷰 수와 마지막 리뷰 시각. 리뷰를 저장할 때 같은 트랜잭션에서 갱신한다.
+@Entity
+@Table(name = "review_group_stats", indexes = {
+        @Index(name = "uk_review_group_stats_group", columnList = "review_group_id", unique = true)
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ReviewGroupStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "review_group_id", nullable = false)
+    private long reviewGroupId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "last_reviewed_at")
+    private LocalDateTime lastReviewedAt;
+}
@@ -0,0 +1,23 @@
+package reviewme.reviewgroup.repository;
+
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import reviewme.question.domain.OptionType;
+import reviewme.reviewgroup.domain.ReviewGroupOptionStats;
+
+@Repository
+public interface ReviewGroupOptionStatsRepository extends JpaRepository<ReviewGroupOptionStats, Long> {
+
+    List<ReviewGroupOptionStats> findAllByReviewGroupId(long reviewGroupId);
+
+    @Query("""
+            SELECT s FROM ReviewGroupOptionStats s
+            WHERE s.reviewGroupId = :reviewGroupId AND s.optionType = :optionType AND s.selectedCount > 0
+            ORDER BY s.selectedCount DESC, s.optionId ASC
+            """)
+    List<ReviewGroupOptionStats> findMostSelectedByReviewGroupId(long reviewGroupId, OptionType optionType,
+                                                                 Pageable pageable);
+}
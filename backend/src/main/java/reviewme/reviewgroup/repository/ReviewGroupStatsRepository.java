@@ -0,0 +1,16 @@
+package reviewme.reviewgroup.repository;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import reviewme.reviewgroup.domain.ReviewGroupStats;
+
+@Repository
+public interface ReviewGroupStatsRepository extends JpaRepository<ReviewGroupStats, Long> {
+
+    Optional<ReviewGroupStats> findByReviewGroupId(long reviewGroupId);
+
+    @Query("SELECT s.reviewCount FROM ReviewGroupStats s WHERE s.reviewGroupId = :reviewGroupId")
+    Optional<Long> findReviewCountByReviewGroupId(long reviewGroupId);
+}
@@ -0,0 +1,111 @@
+package reviewme.reviewgroup.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import reviewme.question.domain.OptionType;
+import reviewme.reviewgroup.domain.OptionSelectionCount;
+
+// 집계 행은 리뷰 그룹을 만들 때 0 으로 함께 넣고, 리뷰를 저장할 때는 UPDATE 로만 더한다.
+// 저장 경로는 미리 넣어 둔 행을 UPDATE 만 하므로 그룹의 첫 리뷰들이 동시에 들어와도 갭 락으로 교착되지 않는다.
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ReviewGroupStatsUpdater {
+
+    private static final String INSERT_REVIEW_COUNT = """
+            INSERT INTO review_group_stats (review_group_id, review_count, last_reviewed_at)
+            VALUES (?, ?, ?)
+            """;
+    private static final String INSERT_SELECTED_COUNT = """
+            INSERT INTO review_group_option_stats (review_group_id, option_id, option_type, selected_count)
+            VALUES (?, ?, ?, ?)
+            """;
+    private static final String UPDATE_REVIEW_COUNT = """
+            UPDATE review_group_stats
+            SET review_count = review_count + ?,
+                last_reviewed_at = CASE
+                    WHEN last_reviewed_at IS NULL OR last_reviewed_at < ? THEN ?
+                    ELSE last_reviewed_at
+                END
+            WHERE review_group_id = ?
+            """;
+    private static final String UPDATE_SELECTED_COUNT = """
+            UPDATE review_group_option_stats
+            SET selected_count = selected_count + ?
+            WHERE review_group_id = ? AND option_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 리뷰 그룹을 저장하는 트랜잭션 안에서 호출해 그룹과 집계 행이 함께 커밋되게 한다.
+    public void initialize(long reviewGroupId, Map<Long, OptionType> optionTypes) {
+        jdbcTemplate.update(INSERT_REVIEW_COUNT, reviewGroupId, 0, null);
+        List<Object[]> selectedCounts = optionTypes.entrySet()
+                .stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new Object[]{reviewGroupId, entry.getKey(), entry.getValue().name(), 0})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SELECTED_COUNT, selectedCounts);
+    }
+
+    // 그룹 행을 먼저 갱신해 잠그므로 같은 그룹의 선택지 행은 한 번에 한 트랜잭션만 갱신한다.
+    public void increment(long reviewGroupId, long reviewCount, LocalDateTime lastReviewedAt,
+                          Collection<OptionSelectionCount> selectionCounts) {
+        Timestamp timestamp = Timestamp.valueOf(lastReviewedAt);
+        if (!updateReviewCount(reviewGroupId, reviewCount, timestamp)) {
+            log.warn("Review group stats not found. Inserting it - reviewGroupId: {}", reviewGroupId);
+            insertOrUpdate(
+                    () -> jdbcTemplate.update(INSERT_REVIEW_COUNT, reviewGroupId, reviewCount, timestamp),
+                    () -> updateReviewCount(reviewGroupId, reviewCount, timestamp)
+            );
+        }
+        selectionCounts.stream()
+                .sorted(Comparator.comparingLong(OptionSelectionCount::optionId))
+                .forEach(selectionCount -> incrementSelectedCount(reviewGroupId, selectionCount));
+    }
+
+    private boolean updateReviewCount(long reviewGroupId, long reviewCount, Timestamp lastReviewedAt) {
+        return jdbcTemplate.update(
+                UPDATE_REVIEW_COUNT, reviewCount, lastReviewedAt, lastReviewedAt, reviewGroupId
+        ) > 0;
+    }
+
+    // 그룹을 만든 뒤 템플릿에 추가된 선택지처럼 행이 없을 때만 INSERT 한다.
+    private void incrementSelectedCount(long reviewGroupId, OptionSelectionCount selectionCount) {
+        if (updateSelectedCount(reviewGroupId, selectionCount)) {
+            return;
+        }
+        log.warn("Review group option stats not found. Inserting it - reviewGroupId: {}, optionId: {}",
+                reviewGroupId, selectionCount.optionId());
+        insertOrUpdate(
+                () -> jdbcTemplate.update(INSERT_SELECTED_COUNT, reviewGroupId, selectionCount.optionId(),
+                        selectionCount.optionType().name(), selectionCount.count()),
+                () -> updateSelectedCount(reviewGroupId, selectionCount)
+        );
+    }
+
+    private boolean updateSelectedCount(long reviewGroupId, OptionSelectionCount selectionCount) {
+        return jdbcTemplate.update(
+                UPDATE_SELECTED_COUNT, selectionCount.count(), reviewGroupId, selectionCount.optionId()
+        ) > 0;
+    }
+
+    // 집계 행이 없는 그룹은 그룹을 만들 때가 아닌 경로로 들어온 경우뿐이므로, 정상 경로는 이 분기를 타지 않는다.
+    // 그 사이 다른 요청이 먼저 넣었다면 다시 UPDATE 한다.
+    private void insertOrUpdate(Runnable insert, Runnable update) {
+        try {
+            insert.run();
+        } catch (DuplicateKeyException e) {
+            update.run();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package reviewme.reviewgroup.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reviewme.review.service.exception.ReviewGroupUnauthorizedException;
+import reviewme.reviewgroup.service.cache.ReviewGroupSnapshot;
+import reviewme.reviewgroup.service.dto.GroupAccessCredential;
+import reviewme.reviewgroup.service.token.GroupAccessTokenProvider;
+
+@Component
+@RequiredArgsConstructor
+public class GroupAccessAuthorizer {
+
+    private final GroupAccessTokenProvider groupAccessTokenProvider;
+
+    // 유효한 토큰이 있으면 접근 코드를 해싱하지 않는다. 토큰이 만료되었으면 접근 코드로 다시 확인한다.
+    public void authorize(ReviewGroupSnapshot reviewGroup, GroupAccessCredential credential) {
+        String groupAccessToken = credential.groupAccessToken();
+        if (groupAccessToken != null && groupAccessTokenProvider.isValid(groupAccessToken, reviewGroup.getId())) {
+            return;
+        }
+        String groupAccessCode = credential.groupAccessCode();
+        if (groupAccessCode != null && reviewGroup.matchesGroupAccessCode(groupAccessCode)) {
+            return;
+        }
+        throw new ReviewGroupUnauthorizedException(reviewGroup.getId());
+    }
+}
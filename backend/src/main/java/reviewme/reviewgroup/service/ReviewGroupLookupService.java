@@ -3,18 +3,18 @@ package reviewme.reviewgroup.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import reviewme.review.service.exception.ReviewGroupNotFoundByReviewRequestCodeException;
-import reviewme.reviewgroup.domain.ReviewGroup;
-import reviewme.reviewgroup.repository.ReviewGroupRepository;
+import reviewme.reviewgroup.service.cache.ReviewGroupCache;
+import reviewme.reviewgroup.service.cache.ReviewGroupSnapshot;
 import reviewme.reviewgroup.service.dto.ReviewGroupResponse;
 
 @Service
 @RequiredArgsConstructor
 public class ReviewGroupLookupService {
 
-    private final ReviewGroupRepository reviewGroupRepository;
+    private final ReviewGroupCache reviewGroupCache;
 
     public ReviewGroupResponse getReviewGroupSummary(String reviewRequestCode) {
-        ReviewGroup reviewGroup = reviewGroupRepository.findByReviewRequestCode(reviewRequestCode)
+        ReviewGroupSnapshot reviewGroup = reviewGroupCache.findByReviewRequestCode(reviewRequestCode)
                 .orElseThrow(() -> new ReviewGroupNotFoundByReviewRequestCodeException(reviewRequestCode));
 
         return new ReviewGroupResponse(reviewGroup.getReviewee(), reviewGroup.getProjectName());
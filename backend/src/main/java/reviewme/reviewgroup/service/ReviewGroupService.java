@@ -1,46 +1,106 @@
 package reviewme.reviewgroup.service;
 
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reviewme.question.domain.OptionType;
 import reviewme.review.service.exception.ReviewGroupNotFoundByReviewRequestCodeException;
 import reviewme.reviewgroup.domain.ReviewGroup;
 import reviewme.reviewgroup.repository.ReviewGroupRepository;
+import reviewme.reviewgroup.repository.ReviewGroupStatsUpdater;
+import reviewme.reviewgroup.service.cache.ReviewGroupCache;
+import reviewme.reviewgroup.service.cache.ReviewGroupSnapshot;
 import reviewme.reviewgroup.service.dto.CheckValidAccessRequest;
 import reviewme.reviewgroup.service.dto.CheckValidAccessResponse;
 import reviewme.reviewgroup.service.dto.ReviewGroupCreationRequest;
 import reviewme.reviewgroup.service.dto.ReviewGroupCreationResponse;
+import reviewme.reviewgroup.service.token.GroupAccessTokenProvider;
+import reviewme.template.service.cache.OptionItemNode;
+import reviewme.template.service.cache.TemplateGraphCache;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ReviewGroupService {
 
-    private static final int REVIEW_REQUEST_CODE_LENGTH = 8;
+    private static final int MAX_CREATION_ATTEMPTS = 3;
 
     private final ReviewGroupRepository reviewGroupRepository;
-    private final RandomCodeGenerator randomCodeGenerator;
+    private final ReviewRequestCodeAllocator reviewRequestCodeAllocator;
+    private final ReviewGroupCache reviewGroupCache;
+    private final GroupAccessTokenProvider groupAccessTokenProvider;
+    private final ReviewGroupStatsUpdater reviewGroupStatsUpdater;
+    private final TemplateGraphCache templateGraphCache;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    public ReviewGroupService(ReviewGroupRepository reviewGroupRepository,
+                              ReviewRequestCodeAllocator reviewRequestCodeAllocator,
+                              ReviewGroupCache reviewGroupCache,
+                              GroupAccessTokenProvider groupAccessTokenProvider,
+                              ReviewGroupStatsUpdater reviewGroupStatsUpdater,
+                              TemplateGraphCache templateGraphCache,
+                              PlatformTransactionManager transactionManager) {
+        this.reviewGroupRepository = reviewGroupRepository;
+        this.reviewRequestCodeAllocator = reviewRequestCodeAllocator;
+        this.reviewGroupCache = reviewGroupCache;
+        this.groupAccessTokenProvider = groupAccessTokenProvider;
+        this.reviewGroupStatsUpdater = reviewGroupStatsUpdater;
+        this.templateGraphCache = templateGraphCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 코드는 겹치지 않게 만들어지지만, 이전 방식으로 만든 코드와 겹치면 유니크 인덱스에 걸리므로 다음 코드로 다시 저장한다.
+    // 저장이 실패해도 이어서 시도할 수 있도록 트랜잭션은 저장 한 번 단위로 두고, 집계 행도 그 안에서 함께 만든다.
     public ReviewGroupCreationResponse createReviewGroup(ReviewGroupCreationRequest request) {
-        String reviewRequestCode;
-        do {
-            reviewRequestCode = randomCodeGenerator.generate(REVIEW_REQUEST_CODE_LENGTH);
-        } while (reviewGroupRepository.existsByReviewRequestCode(reviewRequestCode));
-
-        ReviewGroup reviewGroup = reviewGroupRepository.save(
-                new ReviewGroup(
-                        request.revieweeName(), request.projectName(), reviewRequestCode, request.groupAccessCode()
-                )
-        );
-        return new ReviewGroupCreationResponse(reviewGroup.getReviewRequestCode());
+        for (int attempt = 1; ; attempt++) {
+            String reviewRequestCode = reviewRequestCodeAllocator.allocate();
+            try {
+                ReviewGroup reviewGroup = transactionTemplate.execute(status -> saveWithStats(
+                        new ReviewGroup(
+                                request.revieweeName(), request.projectName(), reviewRequestCode,
+                                request.groupAccessCode()
+                        )
+                ));
+                reviewGroupCache.evict(reviewRequestCode);
+                return new ReviewGroupCreationResponse(reviewGroup.getReviewRequestCode());
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_CREATION_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("Review request code already exists - reviewRequestCode: {}, attempt: {}",
+                        reviewRequestCode, attempt);
+            }
+        }
+    }
+
+    private ReviewGroup saveWithStats(ReviewGroup reviewGroup) {
+        ReviewGroup savedReviewGroup = reviewGroupRepository.save(reviewGroup);
+        reviewGroupStatsUpdater.initialize(savedReviewGroup.getId(), findOptionTypes(savedReviewGroup.getTemplateId()));
+        return savedReviewGroup;
+    }
+
+    // 템플릿이 아직 없으면 그룹 집계 행만 만든다.
+    private Map<Long, OptionType> findOptionTypes(long templateId) {
+        return templateGraphCache.findTemplateGraph(templateId)
+                .map(template -> template.optionItems()
+                        .values()
+                        .stream()
+                        .collect(Collectors.toMap(OptionItemNode::id, OptionItemNode::optionType)))
+                .orElse(Map.of());
     }
 
     @Transactional(readOnly = true)
     public CheckValidAccessResponse checkGroupAccessCode(CheckValidAccessRequest request) {
-        ReviewGroup reviewGroup = reviewGroupRepository.findByReviewRequestCode(request.reviewRequestCode())
+        ReviewGroupSnapshot reviewGroup = reviewGroupCache.findByReviewRequestCode(request.reviewRequestCode())
                 .orElseThrow(() -> new ReviewGroupNotFoundByReviewRequestCodeException(request.reviewRequestCode()));
 
-        boolean hasAccess = reviewGroup.matchesGroupAccessCode(request.groupAccessCode());
-        return new CheckValidAccessResponse(hasAccess);
+        if (!reviewGroup.matchesGroupAccessCode(request.groupAccessCode())) {
+            return CheckValidAccessResponse.denied();
+        }
+        return CheckValidAccessResponse.granted(groupAccessTokenProvider.issue(reviewGroup.getId()));
     }
 }
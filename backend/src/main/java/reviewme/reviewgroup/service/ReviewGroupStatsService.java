@@ -0,0 +1,119 @@
+package reviewme.reviewgroup.service;
+
+import jakarta.annotation.Nullable;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reviewme.question.domain.OptionType;
+import reviewme.review.service.exception.ReviewGroupNotFoundByReviewRequestCodeException;
+import reviewme.reviewgroup.domain.ReviewGroupOptionStats;
+import reviewme.reviewgroup.domain.ReviewGroupStats;
+import reviewme.reviewgroup.repository.ReviewGroupOptionStatsRepository;
+import reviewme.reviewgroup.repository.ReviewGroupStatsRepository;
+import reviewme.reviewgroup.service.cache.ReviewGroupCache;
+import reviewme.reviewgroup.service.cache.ReviewGroupSnapshot;
+import reviewme.reviewgroup.service.dto.GroupAccessCredential;
+import reviewme.reviewgroup.service.dto.KeywordRankingResponse;
+import reviewme.reviewgroup.service.dto.OptionSelectionResponse;
+import reviewme.reviewgroup.service.dto.ReviewGroupStatsResponse;
+import reviewme.template.service.cache.OptionItemNode;
+import reviewme.template.service.cache.TemplateGraph;
+import reviewme.template.service.cache.TemplateGraphCache;
+import reviewme.template.service.exception.TemplateNotFoundByReviewGroupException;
+
+// 리뷰를 저장할 때 갱신한 집계만 읽으므로 리뷰가 많아도 조회 비용이 늘지 않는다.
+@Service
+@RequiredArgsConstructor
+public class ReviewGroupStatsService {
+
+    private static final int DEFAULT_KEYWORD_LIMIT = 5;
+    private static final int MAX_KEYWORD_LIMIT = 20;
+
+    private final ReviewGroupCache reviewGroupCache;
+    private final TemplateGraphCache templateGraphCache;
+    private final GroupAccessAuthorizer groupAccessAuthorizer;
+
+    private final ReviewGroupStatsRepository reviewGroupStatsRepository;
+    private final ReviewGroupOptionStatsRepository reviewGroupOptionStatsRepository;
+
+    @Transactional(readOnly = true)
+    public ReviewGroupStatsResponse getReviewGroupStats(String reviewRequestCode, GroupAccessCredential credential) {
+        ReviewGroupSnapshot reviewGroup = findReviewGroupByRequestCodeOrThrow(reviewRequestCode);
+        groupAccessAuthorizer.authorize(reviewGroup, credential);
+        TemplateGraph template = findTemplateGraphOrThrow(reviewGroup);
+
+        Map<Long, Long> selectedCounts = reviewGroupOptionStatsRepository.findAllByReviewGroupId(reviewGroup.getId())
+                .stream()
+                .collect(Collectors.toMap(
+                        ReviewGroupOptionStats::getOptionId, ReviewGroupOptionStats::getSelectedCount
+                ));
+        Optional<ReviewGroupStats> stats = reviewGroupStatsRepository.findByReviewGroupId(reviewGroup.getId());
+        return new ReviewGroupStatsResponse(
+                stats.map(ReviewGroupStats::getReviewCount).orElse(0L),
+                stats.map(ReviewGroupStats::getLastReviewedAt).orElse(null),
+                mapToOptionSelections(template, OptionType.CATEGORY, selectedCounts),
+                mapToOptionSelections(template, OptionType.KEYWORD, selectedCounts)
+        );
+    }
+
+    // 그룹의 키워드 집계 행만 선택 횟수 순으로 읽는다. 그룹을 만들 때 0 으로 넣어 둔 행처럼 한 번도 선택되지 않은 키워드는 담지 않는다.
+    @Transactional(readOnly = true)
+    public KeywordRankingResponse getTopKeywords(String reviewRequestCode, GroupAccessCredential credential,
+                                                 @Nullable Integer limit) {
+        ReviewGroupSnapshot reviewGroup = findReviewGroupByRequestCodeOrThrow(reviewRequestCode);
+        groupAccessAuthorizer.authorize(reviewGroup, credential);
+        TemplateGraph template = findTemplateGraphOrThrow(reviewGroup);
+
+        Pageable pageable = PageRequest.of(0, resolveKeywordLimit(limit));
+        List<OptionSelectionResponse> keywords = reviewGroupOptionStatsRepository
+                .findMostSelectedByReviewGroupId(reviewGroup.getId(), OptionType.KEYWORD, pageable)
+                .stream()
+                .map(stats -> new OptionSelectionResponse(
+                        stats.getOptionId(),
+                        template.findOptionItem(stats.getOptionId()).map(OptionItemNode::content).orElse(""),
+                        stats.getSelectedCount()
+                ))
+                .toList();
+        return new KeywordRankingResponse(keywords);
+    }
+
+    private int resolveKeywordLimit(@Nullable Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_KEYWORD_LIMIT;
+        }
+        return Math.min(limit, MAX_KEYWORD_LIMIT);
+    }
+
+    // 한 번도 선택되지 않은 선택지도 0 으로 담아, 화면에서 템플릿의 선택지 순서대로 보여줄 수 있게 한다.
+    private List<OptionSelectionResponse> mapToOptionSelections(TemplateGraph template, OptionType optionType,
+                                                                Map<Long, Long> selectedCounts) {
+        return template.optionItems()
+                .values()
+                .stream()
+                .filter(optionItem -> optionItem.optionType() == optionType)
+                .sorted(Comparator.comparingInt(OptionItemNode::position).thenComparingLong(OptionItemNode::id))
+                .map(optionItem -> new OptionSelectionResponse(
+                        optionItem.id(), optionItem.content(), selectedCounts.getOrDefault(optionItem.id(), 0L)
+                ))
+                .toList();
+    }
+
+    private ReviewGroupSnapshot findReviewGroupByRequestCodeOrThrow(String reviewRequestCode) {
+        return reviewGroupCache.findByReviewRequestCode(reviewRequestCode)
+                .orElseThrow(() -> new ReviewGroupNotFoundByReviewRequestCodeException(reviewRequestCode));
+    }
+
+    private TemplateGraph findTemplateGraphOrThrow(ReviewGroupSnapshot reviewGroup) {
+        return templateGraphCache.findTemplateGraph(reviewGroup.getTemplateId())
+                .orElseThrow(() -> new TemplateNotFoundByReviewGroupException(
+                        reviewGroup.getId(), reviewGroup.getTemplateId()
+                ));
+    }
+}
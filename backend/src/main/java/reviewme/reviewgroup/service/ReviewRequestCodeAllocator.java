@@ -0,0 +1,142 @@
+package reviewme.reviewgroup.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import reviewme.config.properties.ReviewRequestCodeProperties;
+import reviewme.review.domain.IdSequence;
+import reviewme.review.repository.IdBlockAllocator;
+import reviewme.util.EncoderAlgorithmInitializationException;
+
+// id_sequence 에서 받은 번호를 비밀 키로 섞은 뒤 base62 8자리로 바꿔 리뷰 요청 코드를 만든다.
+// 번호는 서버끼리 겹치지 않고 섞는 과정은 일대일 대응이므로, 같은 키를 쓰는 한 코드도 겹치지 않는다.
+// 키를 모르면 다음 코드를 짐작할 수 없도록 HMAC 을 라운드 함수로 쓰는 Feistel 암호로 섞는다.
+@Slf4j
+@Component
+public class ReviewRequestCodeAllocator {
+
+    private static final String CHARACTER = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private static final int CODE_LENGTH = 8;
+    private static final long CODE_SPACE = pow(CHARACTER.length(), CODE_LENGTH);
+
+    // 62^8 보다 큰 가장 작은 짝수 비트 공간에서 섞고, 코드 범위를 벗어나면 범위 안에 들어올 때까지 다시 섞는다.
+    private static final int HALF_BITS = 24;
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final int ROUNDS = 4;
+
+    private static final String HMAC_SHA_256 = "HmacSHA256";
+    private static final String DEFAULT_SECRET = "review-me-request-code";
+    private static final Profiles DEFAULT_SECRET_PROFILES = Profiles.of("local", "test");
+
+    private final IdBlockAllocator idBlockAllocator;
+    private final Mac mac;
+
+    // 블록을 받는 동안 DB 를 기다리므로 가상 스레드를 고정시키는 synchronized 대신 락을 쓴다.
+    private final Lock lock = new ReentrantLock();
+
+    private long nextNumber = 1;
+    private long lastNumber = 0;
+
+    public ReviewRequestCodeAllocator(IdBlockAllocator idBlockAllocator, ReviewRequestCodeProperties properties,
+                                      Environment environment) {
+        this.idBlockAllocator = idBlockAllocator;
+        this.mac = createMac(resolveSecret(properties.secret(), environment));
+    }
+
+    // 기본 키는 저장소에 공개되어 있어 코드를 차례로 짐작할 수 있으므로 로컬과 테스트에서만 쓰고, 그 밖에서는 띄우지 않는다.
+    // 서버마다 키가 다르면 코드가 겹칠 수 있으므로 임의로 만들지도 않는다.
+    private static String resolveSecret(String secret, Environment environment) {
+        if (secret != null && !secret.isBlank()) {
+            return secret;
+        }
+        if (!environment.acceptsProfiles(DEFAULT_SECRET_PROFILES)) {
+            throw new IllegalStateException(
+                    "review-group.request-code.secret must be configured outside the local and test profiles."
+            );
+        }
+        log.warn("Review request code secret is not configured. Using the default key for local and test profiles.");
+        return DEFAULT_SECRET;
+    }
+
+    private static Mac createMac(String secret) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_SHA_256);
+            mac.init(new SecretKeySpec(secret.getBytes(UTF_8), HMAC_SHA_256));
+            return mac;
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new EncoderAlgorithmInitializationException(HMAC_SHA_256);
+        }
+    }
+
+    public String allocate() {
+        lock.lock();
+        try {
+            if (nextNumber > lastNumber) {
+                nextNumber = idBlockAllocator.allocate(IdSequence.REVIEW_REQUEST_CODE, IdSequence.ALLOCATION_SIZE);
+                lastNumber = nextNumber + IdSequence.ALLOCATION_SIZE - 1;
+            }
+            return encode(permute(nextNumber++));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    String encode(long value) {
+        char[] code = new char[CODE_LENGTH];
+        long remaining = value;
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = CHARACTER.charAt((int) (remaining % CHARACTER.length()));
+            remaining /= CHARACTER.length();
+        }
+        return new String(code);
+    }
+
+    // [0, 62^8) 안의 값을 같은 범위 안의 다른 값으로 일대일 대응시킨다.
+    long permute(long number) {
+        if (number < 0 || number >= CODE_SPACE) {
+            throw new IllegalStateException("Review request code sequence is exhausted: " + number);
+        }
+        long value = number;
+        do {
+            value = feistel(value);
+        } while (value >= CODE_SPACE);
+        return value;
+    }
+
+    private long feistel(long value) {
+        long left = value >>> HALF_BITS;
+        long right = value & HALF_MASK;
+        for (int round = 0; round < ROUNDS; round++) {
+            long mixed = left ^ roundFunction(round, right);
+            left = right;
+            right = mixed;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    private long roundFunction(int round, long half) {
+        byte[] input = ByteBuffer.allocate(Integer.BYTES + Long.BYTES)
+                .putInt(round)
+                .putLong(half)
+                .array();
+        return ByteBuffer.wrap(mac.doFinal(input)).getLong() & HALF_MASK;
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}
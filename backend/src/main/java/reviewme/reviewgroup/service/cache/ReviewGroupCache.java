@@ -0,0 +1,133 @@
+package reviewme.reviewgroup.service.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+import reviewme.reviewgroup.repository.ReviewGroupRepository;
+
+@Component
+public class ReviewGroupCache {
+
+    private static final String CACHE_NAME = "reviewGroupByRequestCode";
+    private static final int MAX_SIZE = 10_000;
+    private static final int MAX_NEGATIVE_SIZE = 1_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(30);
+
+    private final ReviewGroupRepository reviewGroupRepository;
+
+    private final Counter hitCounter;
+    private final Counter negativeHitCounter;
+    private final Counter missCounter;
+    private final Counter sizeEvictionCounter;
+    private final Counter expiredEvictionCounter;
+
+    // 없는 코드가 대량으로 조회되어도 존재하는 그룹이 밀려나지 않도록 나누어 저장한다.
+    private final Map<String, CacheEntry> entries;
+    private final Map<String, CacheEntry> negativeEntries;
+
+    public ReviewGroupCache(ReviewGroupRepository reviewGroupRepository, MeterRegistry meterRegistry) {
+        this.reviewGroupRepository = reviewGroupRepository;
+        this.hitCounter = gets(meterRegistry, "hit");
+        this.negativeHitCounter = gets(meterRegistry, "negative_hit");
+        this.missCounter = gets(meterRegistry, "miss");
+        this.sizeEvictionCounter = evictions(meterRegistry, "size");
+        this.expiredEvictionCounter = evictions(meterRegistry, "expired");
+        this.entries = lruMap(MAX_SIZE);
+        this.negativeEntries = lruMap(MAX_NEGATIVE_SIZE);
+
+        Gauge.builder("cache.size", entries, Map::size)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        Gauge.builder("cache.size", negativeEntries, Map::size)
+                .tag("cache", CACHE_NAME + ".negative")
+                .register(meterRegistry);
+    }
+
+    public Optional<ReviewGroupSnapshot> findByReviewRequestCode(String reviewRequestCode) {
+        long now = System.nanoTime();
+
+        CacheEntry entry = findAlive(entries, reviewRequestCode, now);
+        if (entry != null) {
+            hitCounter.increment();
+            return Optional.of(entry.snapshot());
+        }
+        if (findAlive(negativeEntries, reviewRequestCode, now) != null) {
+            negativeHitCounter.increment();
+            return Optional.empty();
+        }
+
+        missCounter.increment();
+        Optional<ReviewGroupSnapshot> snapshot = reviewGroupRepository.findByReviewRequestCode(reviewRequestCode)
+                .map(ReviewGroupSnapshot::from);
+        if (snapshot.isPresent()) {
+            entries.put(reviewRequestCode, new CacheEntry(snapshot.get(), now + TTL.toNanos()));
+        } else {
+            negativeEntries.put(reviewRequestCode, new CacheEntry(null, now + NEGATIVE_TTL.toNanos()));
+        }
+        return snapshot;
+    }
+
+    public void evict(String reviewRequestCode) {
+        entries.remove(reviewRequestCode);
+        negativeEntries.remove(reviewRequestCode);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+        negativeEntries.clear();
+    }
+
+    private CacheEntry findAlive(Map<String, CacheEntry> cache, String reviewRequestCode, long now) {
+        CacheEntry entry = cache.get(reviewRequestCode);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(now)) {
+            cache.remove(reviewRequestCode, entry);
+            expiredEvictionCounter.increment();
+            return null;
+        }
+        return entry;
+    }
+
+    private Map<String, CacheEntry> lruMap(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                boolean overflow = size() > maxSize;
+                if (overflow) {
+                    sizeEvictionCounter.increment();
+                }
+                return overflow;
+            }
+        });
+    }
+
+    private static Counter gets(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter evictions(MeterRegistry meterRegistry, String cause) {
+        return Counter.builder("cache.evictions")
+                .tag("cache", CACHE_NAME)
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+
+    private record CacheEntry(ReviewGroupSnapshot snapshot, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
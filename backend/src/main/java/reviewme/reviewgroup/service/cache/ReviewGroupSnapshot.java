@@ -0,0 +1,47 @@
+package reviewme.reviewgroup.service.cache;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reviewme.reviewgroup.domain.ReviewGroup;
+import reviewme.util.Encoder;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReviewGroupSnapshot {
+
+    private final Long id;
+    private final String reviewee;
+    private final String projectName;
+    private final String reviewRequestCode;
+
+    @Getter(AccessLevel.NONE)
+    private final byte[] groupAccessCodeDigest;
+
+    private final long templateId;
+
+    public static ReviewGroupSnapshot from(ReviewGroup reviewGroup) {
+        return new ReviewGroupSnapshot(
+                reviewGroup.getId(),
+                reviewGroup.getReviewee(),
+                reviewGroup.getProjectName(),
+                reviewGroup.getReviewRequestCode(),
+                Encoder.decodeHexadecimal(reviewGroup.getGroupAccessCode()),
+                reviewGroup.getTemplateId()
+        );
+    }
+
+    public String getProfileVersion() {
+        return profileVersionOf(reviewee, projectName);
+    }
+
+    // 응답에 담기는 리뷰이 이름과 프로젝트 이름이 바뀌면 ETag 도 달라지도록 두 값의 SHA-256 해시를 쓴다.
+    // 이름 사이의 경계가 흐려지지 않도록 리뷰이 이름의 길이를 앞에 붙인다.
+    public static String profileVersionOf(String reviewee, String projectName) {
+        return Encoder.encode(reviewee.length() + ":" + reviewee + projectName);
+    }
+
+    public boolean matchesGroupAccessCode(String groupAccessCode) {
+        return Encoder.matches(groupAccessCode, groupAccessCodeDigest);
+    }
+}
@@ -1,6 +1,19 @@
 package reviewme.reviewgroup.service.dto;
 
+import jakarta.annotation.Nullable;
+
 public record CheckValidAccessResponse(
-        boolean hasAccess
+        boolean hasAccess,
+
+        @Nullable
+        String groupAccessToken
 ) {
+
+    public static CheckValidAccessResponse granted(String groupAccessToken) {
+        return new CheckValidAccessResponse(true, groupAccessToken);
+    }
+
+    public static CheckValidAccessResponse denied() {
+        return new CheckValidAccessResponse(false, null);
+    }
 }
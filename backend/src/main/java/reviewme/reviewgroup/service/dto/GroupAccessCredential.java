@@ -0,0 +1,38 @@
+package reviewme.reviewgroup.service.dto;
+
+import jakarta.annotation.Nullable;
+import reviewme.global.exception.MissingHeaderPropertyException;
+
+// 리뷰를 볼 때 제시하는 그룹 접근 코드 또는 접근 코드 확인 후 받은 토큰. 둘 중 하나만 있어도 된다.
+public record GroupAccessCredential(
+
+        @Nullable
+        String groupAccessCode,
+
+        @Nullable
+        String groupAccessToken
+) {
+
+    private static final String GROUP_ACCESS_CODE_HEADER = "GroupAccessCode";
+
+    // 요청 헤더로 받은 값으로 만든다. 접근 코드 확인 후 받은 토큰이 있으면 접근 코드 없이도 조회할 수 있다.
+    public static GroupAccessCredential of(String groupAccessCode, String groupAccessToken) {
+        GroupAccessCredential credential = new GroupAccessCredential(groupAccessCode, groupAccessToken);
+        if (credential.isEmpty()) {
+            throw new MissingHeaderPropertyException(GROUP_ACCESS_CODE_HEADER);
+        }
+        return credential;
+    }
+
+    public static GroupAccessCredential ofGroupAccessCode(String groupAccessCode) {
+        return new GroupAccessCredential(groupAccessCode, null);
+    }
+
+    public static GroupAccessCredential ofGroupAccessToken(String groupAccessToken) {
+        return new GroupAccessCredential(null, groupAccessToken);
+    }
+
+    public boolean isEmpty() {
+        return groupAccessCode == null && groupAccessToken == null;
+    }
+}
@@ -0,0 +1,9 @@
+package reviewme.reviewgroup.service.dto;
+
+import java.util.List;
+
+public record KeywordRankingResponse(
+
+        List<OptionSelectionResponse> keywords
+) {
+}
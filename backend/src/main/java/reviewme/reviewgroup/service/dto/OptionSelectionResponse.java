@@ -0,0 +1,9 @@
+package reviewme.reviewgroup.service.dto;
+
+public record OptionSelectionResponse(
+
+        long optionId,
+        String content,
+        long count
+) {
+}
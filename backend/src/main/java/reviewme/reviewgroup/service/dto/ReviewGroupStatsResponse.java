@@ -0,0 +1,17 @@
+package reviewme.reviewgroup.service.dto;
+
+import jakarta.annotation.Nullable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ReviewGroupStatsResponse(
+
+        long reviewCount,
+
+        @Nullable
+        LocalDateTime lastReviewedAt,
+
+        List<OptionSelectionResponse> categories,
+        List<OptionSelectionResponse> keywords
+) {
+}
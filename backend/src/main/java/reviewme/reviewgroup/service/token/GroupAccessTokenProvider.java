@@ -0,0 +1,130 @@
+package reviewme.reviewgroup.service.token;
+
+import java.nio.ByteBuffer;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import reviewme.config.properties.GroupAccessTokenProperties;
+import reviewme.util.EncoderAlgorithmInitializationException;
+
+// 접근 코드를 한 번 확인한 뒤에는 리뷰 그룹 아이디와 만료 시각에 서명한 토큰으로 접근을 허용한다.
+// 토큰은 [그룹 아이디 8바이트][만료 시각(초) 8바이트][HMAC-SHA256 32바이트] 를 base64url 로 인코딩한 값이다.
+@Slf4j
+@Component
+public class GroupAccessTokenProvider {
+
+    private static final String HMAC_SHA_256 = "HmacSHA256";
+    private static final int KEY_LENGTH = 32;
+    private static final int PAYLOAD_LENGTH = Long.BYTES * 2;
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int TOKEN_LENGTH = PAYLOAD_LENGTH + SIGNATURE_LENGTH;
+    private static final int MAC_POOL_SIZE = 64;
+    private static final Profiles GENERATED_SECRET_PROFILES = Profiles.of("local", "test");
+
+    private static final Base64.Encoder TOKEN_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder TOKEN_DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock;
+    private final BlockingQueue<Mac> macPool = new ArrayBlockingQueue<>(MAC_POOL_SIZE);
+
+    @Autowired
+    public GroupAccessTokenProvider(GroupAccessTokenProperties properties, Environment environment) {
+        this(properties, environment, Clock.systemUTC());
+    }
+
+    GroupAccessTokenProvider(GroupAccessTokenProperties properties, Environment environment, Clock clock) {
+        this.key = new SecretKeySpec(resolveSecret(properties.secret(), environment), HMAC_SHA_256);
+        this.ttl = properties.ttl();
+        this.clock = clock;
+    }
+
+    // 서버마다 키를 새로 만들면 다른 서버가 발급한 토큰을 검증하지 못하고 재시작할 때마다 토큰이 모두 무효가 된다.
+    // 그래서 임의로 만든 키는 로컬과 테스트에서만 쓰고, 그 밖에서는 키 없이 띄우지 않는다.
+    private static byte[] resolveSecret(String secret, Environment environment) {
+        if (secret != null && !secret.isBlank()) {
+            return Base64.getDecoder().decode(secret);
+        }
+        if (!environment.acceptsProfiles(GENERATED_SECRET_PROFILES)) {
+            throw new IllegalStateException(
+                    "review-group.access-token.secret must be configured outside the local and test profiles."
+            );
+        }
+        log.warn("Group access token secret is not configured. Using a generated key for local and test profiles.");
+        byte[] generated = new byte[KEY_LENGTH];
+        new SecureRandom().nextBytes(generated);
+        return generated;
+    }
+
+    public String issue(long reviewGroupId) {
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        ByteBuffer token = ByteBuffer.allocate(TOKEN_LENGTH)
+                .putLong(reviewGroupId)
+                .putLong(expiresAt);
+        token.put(sign(token.array()));
+        return TOKEN_ENCODER.encodeToString(token.array());
+    }
+
+    // DB 나 캐시를 거치지 않고 서명과 만료 시각, 그룹 아이디만 확인한다.
+    public boolean isValid(String token, long reviewGroupId) {
+        byte[] decoded = decode(token);
+        if (decoded.length != TOKEN_LENGTH) {
+            return false;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(decoded);
+        long tokenReviewGroupId = buffer.getLong();
+        long expiresAt = buffer.getLong();
+        if (tokenReviewGroupId != reviewGroupId || expiresAt <= clock.instant().getEpochSecond()) {
+            return false;
+        }
+        byte[] signature = new byte[SIGNATURE_LENGTH];
+        buffer.get(signature);
+        return MessageDigest.isEqual(sign(decoded), signature);
+    }
+
+    private byte[] decode(String token) {
+        try {
+            return TOKEN_DECODER.decode(token);
+        } catch (IllegalArgumentException e) {
+            return new byte[0];
+        }
+    }
+
+    private byte[] sign(byte[] token) {
+        Mac mac = borrowMac();
+        try {
+            mac.update(token, 0, PAYLOAD_LENGTH);
+            return mac.doFinal();
+        } finally {
+            macPool.offer(mac);
+        }
+    }
+
+    private Mac borrowMac() {
+        Mac mac = macPool.poll();
+        if (mac != null) {
+            return mac;
+        }
+        try {
+            Mac created = Mac.getInstance(HMAC_SHA_256);
+            created.init(key);
+            return created;
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new EncoderAlgorithmInitializationException(HMAC_SHA_256);
+        }
+    }
+}
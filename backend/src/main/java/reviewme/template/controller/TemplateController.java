@@ -1,12 +1,14 @@
 package reviewme.template.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import reviewme.template.service.TemplateService;
-import reviewme.template.service.dto.response.TemplateResponse;
+import reviewme.template.service.dto.response.SerializedTemplateResponse;
 
 @RestController
 @RequiredArgsConstructor
@@ -14,9 +16,15 @@ public class TemplateController {
 
     private final TemplateService templateService;
 
+    // 미리 직렬화해 둔 JSON 바이트를 그대로 쓰므로 응답마다 ObjectMapper 를 거치지 않는다.
+    // ETag 가 일치하면 본문 없이 304 로 응답한다.
     @GetMapping("/v2/reviews/write")
-    public ResponseEntity<TemplateResponse> getReviewForm(@RequestParam String reviewRequestCode) {
-        TemplateResponse response = templateService.generateReviewForm(reviewRequestCode);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getReviewForm(@RequestParam String reviewRequestCode) {
+        SerializedTemplateResponse response = templateService.generateSerializedReviewForm(reviewRequestCode);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(response.eTag())
+                .body(response.body());
     }
 }
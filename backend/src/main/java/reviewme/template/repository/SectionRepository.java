@@ -1,14 +1,24 @@
 package reviewme.template.repository;
 
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import reviewme.template.domain.Section;
 
 @Repository
 public interface SectionRepository extends JpaRepository<Section, Long> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "section"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "template_section")
+    })
     @Query(value = """
             SELECT s.* FROM section s
             JOIN template_section ts
@@ -17,4 +27,7 @@ public interface SectionRepository extends JpaRepository<Section, Long> {
             ORDER BY s.position ASC
             """, nativeQuery = true)
     List<Section> findAllByTemplateId(long templateId);
+
+    @EntityGraph(attributePaths = "questionIds")
+    List<Section> findAllByIdIn(Collection<Long> sectionIds);
 }
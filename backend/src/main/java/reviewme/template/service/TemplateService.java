@@ -4,8 +4,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reviewme.review.service.exception.ReviewGroupNotFoundByReviewRequestCodeException;
-import reviewme.reviewgroup.domain.ReviewGroup;
-import reviewme.reviewgroup.repository.ReviewGroupRepository;
+import reviewme.reviewgroup.service.cache.ReviewGroupCache;
+import reviewme.reviewgroup.service.cache.ReviewGroupSnapshot;
+import reviewme.template.service.dto.response.SerializedTemplateResponse;
 import reviewme.template.service.dto.response.TemplateResponse;
 import reviewme.template.service.mapper.TemplateMapper;
 
@@ -13,17 +14,23 @@ import reviewme.template.service.mapper.TemplateMapper;
 @RequiredArgsConstructor
 public class TemplateService {
 
-    private final ReviewGroupRepository reviewGroupRepository;
+    private final ReviewGroupCache reviewGroupCache;
     private final TemplateMapper templateMapper;
 
     @Transactional(readOnly = true)
     public TemplateResponse generateReviewForm(String reviewRequestCode) {
-        ReviewGroup reviewGroup = findReviewGroupByRequestCodeOrThrow(reviewRequestCode);
+        ReviewGroupSnapshot reviewGroup = findReviewGroupByRequestCodeOrThrow(reviewRequestCode);
         return templateMapper.mapToTemplateResponse(reviewGroup);
     }
 
-    private ReviewGroup findReviewGroupByRequestCodeOrThrow(String reviewRequestCode) {
-        return reviewGroupRepository.findByReviewRequestCode(reviewRequestCode)
+    @Transactional(readOnly = true)
+    public SerializedTemplateResponse generateSerializedReviewForm(String reviewRequestCode) {
+        ReviewGroupSnapshot reviewGroup = findReviewGroupByRequestCodeOrThrow(reviewRequestCode);
+        return templateMapper.mapToSerializedTemplateResponse(reviewGroup);
+    }
+
+    private ReviewGroupSnapshot findReviewGroupByRequestCodeOrThrow(String reviewRequestCode) {
+        return reviewGroupCache.findByReviewRequestCode(reviewRequestCode)
                 .orElseThrow(() -> new ReviewGroupNotFoundByReviewRequestCodeException(reviewRequestCode));
     }
 }
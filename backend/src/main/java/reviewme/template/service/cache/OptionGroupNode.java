@@ -0,0 +1,21 @@
+package reviewme.template.service.cache;
+
+import java.util.List;
+import reviewme.question.domain.OptionGroup;
+
+public record OptionGroupNode(
+        long id,
+        int minSelectionCount,
+        int maxSelectionCount,
+        List<OptionItemNode> optionItems
+) {
+
+    static OptionGroupNode of(OptionGroup optionGroup, List<OptionItemNode> optionItems) {
+        return new OptionGroupNode(
+                optionGroup.getId(),
+                optionGroup.getMinSelectionCount(),
+                optionGroup.getMaxSelectionCount(),
+                List.copyOf(optionItems)
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package reviewme.template.service.cache;
+
+import reviewme.question.domain.OptionItem;
+import reviewme.question.domain.OptionType;
+
+public record OptionItemNode(
+        long id,
+        String content,
+        int position,
+        OptionType optionType
+) {
+
+    static OptionItemNode from(OptionItem optionItem) {
+        return new OptionItemNode(
+                optionItem.getId(),
+                optionItem.getContent(),
+                optionItem.getPosition(),
+                optionItem.getOptionType()
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package reviewme.template.service.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class PlaceholderText {
+
+    public static final String REVIEWEE_NAME_PLACEHOLDER = "{revieweeName}";
+
+    // 치환자를 기준으로 나눈 리터럴 조각으로, 인접한 두 조각 사이마다 치환자가 하나씩 위치한다.
+    private final String[] literals;
+    private final int literalLength;
+
+    private PlaceholderText(String[] literals) {
+        this.literals = literals;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static PlaceholderText compile(String text, String placeholder) {
+        List<String> literals = new ArrayList<>();
+        int from = 0;
+        int index = text.indexOf(placeholder);
+        while (index >= 0) {
+            literals.add(text.substring(from, index));
+            from = index + placeholder.length();
+            index = text.indexOf(placeholder, from);
+        }
+        literals.add(text.substring(from));
+        return new PlaceholderText(literals.toArray(String[]::new));
+    }
+
+    public static PlaceholderText compileRevieweeName(String text) {
+        return compile(text, REVIEWEE_NAME_PLACEHOLDER);
+    }
+
+    public String render(String replacement) {
+        if (literals.length == 1) {
+            return literals[0];
+        }
+        int placeholderCount = literals.length - 1;
+        StringBuilder builder = new StringBuilder(literalLength + replacement.length() * placeholderCount);
+        builder.append(literals[0]);
+        for (int i = 1; i < literals.length; i++) {
+            builder.append(replacement).append(literals[i]);
+        }
+        return builder.toString();
+    }
+
+    public boolean isEmpty() {
+        return literals.length == 1 && literals[0].isEmpty();
+    }
+}
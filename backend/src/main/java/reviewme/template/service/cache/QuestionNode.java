@@ -0,0 +1,54 @@
+package reviewme.template.service.cache;
+
+import jakarta.annotation.Nullable;
+import reviewme.question.domain.Question;
+import reviewme.question.domain.QuestionType;
+
+public record QuestionNode(
+        long id,
+        boolean required,
+        QuestionType questionType,
+        PlaceholderText content,
+        @Nullable PlaceholderText guideline,
+        int position,
+        @Nullable OptionGroupNode optionGroup
+) {
+
+    static QuestionNode of(Question question, @Nullable OptionGroupNode optionGroup) {
+        return new QuestionNode(
+                question.getId(),
+                question.isRequired(),
+                question.getQuestionType(),
+                PlaceholderText.compileRevieweeName(question.getContent()),
+                compileNullable(question.getGuideline()),
+                question.getPosition(),
+                optionGroup
+        );
+    }
+
+    private static PlaceholderText compileNullable(@Nullable String text) {
+        if (text == null) {
+            return null;
+        }
+        return PlaceholderText.compileRevieweeName(text);
+    }
+
+    public boolean isSelectable() {
+        return questionType == QuestionType.CHECKBOX;
+    }
+
+    public boolean hasGuideline() {
+        return guideline != null && !guideline.isEmpty();
+    }
+
+    public String renderContent(String revieweeName) {
+        return content.render(revieweeName);
+    }
+
+    public String renderGuideline(String revieweeName) {
+        if (guideline == null) {
+            return null;
+        }
+        return guideline.render(revieweeName);
+    }
+}
@@ -0,0 +1,44 @@
+package reviewme.template.service.cache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import reviewme.template.service.dto.response.SectionResponse;
+
+@Component
+public class RenderedSectionCache {
+
+    private static final int MAX_SIZE = 1_000;
+
+    private final Map<RenderKey, RenderedSections> renderedSections = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<RenderKey, RenderedSections> eldest) {
+                    return size() > MAX_SIZE;
+                }
+            }
+    );
+
+    public List<SectionResponse> getOrRender(TemplateGraph templateGraph, String revieweeName,
+                                             Function<String, List<SectionResponse>> renderer) {
+        RenderKey key = new RenderKey(templateGraph.templateId(), revieweeName);
+        RenderedSections cached = renderedSections.get(key);
+        // 템플릿 그래프가 무효화되어 다시 적재되었다면 이전 그래프로 만든 응답은 사용하지 않는다.
+        if (cached != null && cached.templateGraph() == templateGraph) {
+            return cached.sections();
+        }
+
+        List<SectionResponse> sections = renderer.apply(revieweeName);
+        renderedSections.put(key, new RenderedSections(templateGraph, sections));
+        return sections;
+    }
+
+    private record RenderKey(long templateId, String revieweeName) {
+    }
+
+    private record RenderedSections(TemplateGraph templateGraph, List<SectionResponse> sections) {
+    }
+}
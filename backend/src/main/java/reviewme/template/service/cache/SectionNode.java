@@ -0,0 +1,41 @@
+package reviewme.template.service.cache;
+
+import jakarta.annotation.Nullable;
+import java.util.List;
+import reviewme.template.domain.Section;
+import reviewme.template.domain.VisibleType;
+import reviewme.util.collection.LongHashSet;
+
+public record SectionNode(
+        long id,
+        VisibleType visibleType,
+        @Nullable Long onSelectedOptionId,
+        String sectionName,
+        PlaceholderText header,
+        int position,
+        List<QuestionNode> questions
+) {
+
+    static SectionNode of(Section section, List<QuestionNode> questions) {
+        return new SectionNode(
+                section.getId(),
+                section.getVisibleType(),
+                section.getOnSelectedOptionId(),
+                section.getSectionName(),
+                PlaceholderText.compileRevieweeName(section.getHeader()),
+                section.getPosition(),
+                List.copyOf(questions)
+        );
+    }
+
+    public boolean isVisibleBySelectedOptionIds(LongHashSet selectedOptionIds) {
+        if (visibleType == VisibleType.ALWAYS) {
+            return true;
+        }
+        return onSelectedOptionId != null && selectedOptionIds.contains(onSelectedOptionId);
+    }
+
+    public String renderHeader(String revieweeName) {
+        return header.render(revieweeName);
+    }
+}
@@ -0,0 +1,67 @@
+package reviewme.template.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reviewme.reviewgroup.service.cache.ReviewGroupSnapshot;
+import reviewme.template.service.dto.response.SerializedTemplateResponse;
+import reviewme.template.service.dto.response.TemplateResponse;
+import reviewme.util.Encoder;
+
+// 같은 리뷰 링크의 작성 폼은 매번 같은 JSON 이 되므로, 직렬화한 바이트를 보관했다가 그대로 내려준다.
+// 응답은 템플릿과 리뷰이 이름, 프로젝트 이름으로만 정해지므로 이 셋을 키로 삼는다.
+@Component
+@RequiredArgsConstructor
+public class SerializedTemplateCache {
+
+    private static final int MAX_SIZE = 1_000;
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<RenderKey, RenderedTemplate> renderedTemplates = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<RenderKey, RenderedTemplate> eldest) {
+                    return size() > MAX_SIZE;
+                }
+            }
+    );
+
+    public SerializedTemplateResponse getOrRender(TemplateGraph templateGraph, ReviewGroupSnapshot reviewGroup,
+                                                  Supplier<TemplateResponse> renderer) {
+        RenderKey key = new RenderKey(
+                templateGraph.templateId(), reviewGroup.getReviewee(), reviewGroup.getProjectName()
+        );
+        RenderedTemplate cached = renderedTemplates.get(key);
+        // 템플릿 그래프가 무효화되어 다시 적재되었다면 이전 그래프로 만든 응답은 사용하지 않는다.
+        if (cached != null && cached.templateGraph() == templateGraph) {
+            return cached.response();
+        }
+
+        SerializedTemplateResponse response = serialize(renderer.get());
+        renderedTemplates.put(key, new RenderedTemplate(templateGraph, response));
+        return response;
+    }
+
+    private SerializedTemplateResponse serialize(TemplateResponse templateResponse) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(templateResponse);
+            return new SerializedTemplateResponse(body, "\"" + Encoder.encode(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(
+                    "Failed to serialize review form - formId: " + templateResponse.formId(), e
+            );
+        }
+    }
+
+    private record RenderKey(long templateId, String revieweeName, String projectName) {
+    }
+
+    private record RenderedTemplate(TemplateGraph templateGraph, SerializedTemplateResponse response) {
+    }
+}
@@ -0,0 +1,50 @@
+package reviewme.template.service.cache;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+public record TemplateGraph(
+        long templateId,
+        List<SectionNode> sections,
+        Map<Long, QuestionNode> questions,
+        Map<Long, OptionItemNode> optionItems
+) {
+
+    public TemplateGraph(long templateId, List<SectionNode> sections) {
+        this(templateId, List.copyOf(sections), indexQuestions(sections));
+    }
+
+    private TemplateGraph(long templateId, List<SectionNode> sections, Map<Long, QuestionNode> questions) {
+        this(templateId, sections, questions, indexOptionItems(questions));
+    }
+
+    private static Map<Long, QuestionNode> indexQuestions(List<SectionNode> sections) {
+        Map<Long, QuestionNode> questions = new HashMap<>();
+        sections.stream()
+                .flatMap(section -> section.questions().stream())
+                .forEach(question -> questions.putIfAbsent(question.id(), question));
+        return Map.copyOf(questions);
+    }
+
+    private static Map<Long, OptionItemNode> indexOptionItems(Map<Long, QuestionNode> questions) {
+        Map<Long, OptionItemNode> optionItems = new HashMap<>();
+        questions.values()
+                .stream()
+                .map(QuestionNode::optionGroup)
+                .filter(Objects::nonNull)
+                .flatMap(optionGroup -> optionGroup.optionItems().stream())
+                .forEach(optionItem -> optionItems.putIfAbsent(optionItem.id(), optionItem));
+        return Map.copyOf(optionItems);
+    }
+
+    public Optional<QuestionNode> findQuestion(long questionId) {
+        return Optional.ofNullable(questions.get(questionId));
+    }
+
+    public Optional<OptionItemNode> findOptionItem(long optionItemId) {
+        return Optional.ofNullable(optionItems.get(optionItemId));
+    }
+}
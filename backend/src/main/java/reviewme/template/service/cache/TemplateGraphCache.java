@@ -0,0 +1,147 @@
+package reviewme.template.service.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reviewme.question.domain.OptionGroup;
+import reviewme.question.domain.OptionItem;
+import reviewme.question.domain.Question;
+import reviewme.question.repository.OptionGroupRepository;
+import reviewme.question.repository.OptionItemRepository;
+import reviewme.question.repository.QuestionRepository;
+import reviewme.template.domain.Section;
+import reviewme.template.domain.SectionQuestion;
+import reviewme.template.domain.Template;
+import reviewme.template.domain.TemplateSection;
+import reviewme.template.repository.SectionRepository;
+import reviewme.template.repository.TemplateRepository;
+import reviewme.template.service.exception.MissingOptionItemsInOptionGroupException;
+import reviewme.template.service.exception.QuestionInSectionNotFoundException;
+import reviewme.template.service.exception.SectionInTemplateNotFoundException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TemplateGraphCache {
+
+    private final TemplateRepository templateRepository;
+    private final SectionRepository sectionRepository;
+    private final QuestionRepository questionRepository;
+    private final OptionGroupRepository optionGroupRepository;
+    private final OptionItemRepository optionItemRepository;
+
+    private final Map<Long, TemplateGraph> templateGraphs = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        templateRepository.findAll()
+                .forEach(template -> templateGraphs.putIfAbsent(template.getId(), load(template)));
+        log.info("Template graph cache warmed up - templateIds: {}", templateGraphs.keySet());
+    }
+
+    // computeIfAbsent 안에서 불러오면 JPA 조회 동안 맵의 버킷 락을 잡게 되므로, 맵 밖에서 불러온 뒤 먼저 들어간 그래프를 쓴다.
+    // 동시에 처음 조회하면 여러 번 불러올 수 있지만 모두 같은 그래프를 돌려받는다.
+    public Optional<TemplateGraph> findTemplateGraph(long templateId) {
+        TemplateGraph cached = templateGraphs.get(templateId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return templateRepository.findById(templateId)
+                .map(this::load)
+                .map(loaded -> Objects.requireNonNullElse(templateGraphs.putIfAbsent(templateId, loaded), loaded));
+    }
+
+    // 템플릿을 새로 저장하면 이전에 불러온 그래프를 버린다.
+    public void invalidateAll() {
+        templateGraphs.clear();
+    }
+
+    private TemplateGraph load(Template template) {
+        List<Long> sectionIds = template.getSectionIds()
+                .stream()
+                .map(TemplateSection::getSectionId)
+                .toList();
+        Map<Long, Section> sections = sectionRepository.findAllByIdIn(sectionIds)
+                .stream()
+                .collect(Collectors.toMap(Section::getId, Function.identity()));
+
+        List<Long> questionIds = sections.values()
+                .stream()
+                .flatMap(section -> section.getQuestionIds().stream())
+                .map(SectionQuestion::getQuestionId)
+                .distinct()
+                .toList();
+        Map<Long, QuestionNode> questions = loadQuestions(questionIds);
+
+        List<SectionNode> sectionNodes = template.getSectionIds()
+                .stream()
+                .map(templateSection -> toSectionNode(template, templateSection, sections, questions))
+                .toList();
+        return new TemplateGraph(template.getId(), sectionNodes);
+    }
+
+    private Map<Long, QuestionNode> loadQuestions(List<Long> questionIds) {
+        if (questionIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<OptionItem>> optionItemsByOptionGroup = optionItemRepository.findAllByQuestionIds(questionIds)
+                .stream()
+                .collect(Collectors.groupingBy(OptionItem::getOptionGroupId));
+        Map<Long, OptionGroupNode> optionGroupsByQuestion = optionGroupRepository.findAllByQuestionIds(questionIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        OptionGroup::getQuestionId,
+                        optionGroup -> toOptionGroupNode(optionGroup, optionItemsByOptionGroup)
+                ));
+
+        return questionRepository.findAllById(questionIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        Question::getId,
+                        question -> QuestionNode.of(question, optionGroupsByQuestion.get(question.getId()))
+                ));
+    }
+
+    private OptionGroupNode toOptionGroupNode(OptionGroup optionGroup,
+                                              Map<Long, List<OptionItem>> optionItemsByOptionGroup) {
+        List<OptionItem> optionItems = optionItemsByOptionGroup.getOrDefault(optionGroup.getId(), List.of());
+        if (optionItems.isEmpty()) {
+            throw new MissingOptionItemsInOptionGroupException(optionGroup.getId());
+        }
+        List<OptionItemNode> optionItemNodes = optionItems.stream()
+                .map(OptionItemNode::from)
+                .toList();
+        return OptionGroupNode.of(optionGroup, optionItemNodes);
+    }
+
+    private SectionNode toSectionNode(Template template, TemplateSection templateSection,
+                                      Map<Long, Section> sections, Map<Long, QuestionNode> questions) {
+        Section section = sections.get(templateSection.getSectionId());
+        if (section == null) {
+            throw new SectionInTemplateNotFoundException(template.getId(), templateSection.getSectionId());
+        }
+        List<QuestionNode> questionNodes = section.getQuestionIds()
+                .stream()
+                .map(sectionQuestion -> findQuestionOrThrow(section, sectionQuestion, questions))
+                .toList();
+        return SectionNode.of(section, questionNodes);
+    }
+
+    private QuestionNode findQuestionOrThrow(Section section, SectionQuestion sectionQuestion,
+                                             Map<Long, QuestionNode> questions) {
+        QuestionNode question = questions.get(sectionQuestion.getQuestionId());
+        if (question == null) {
+            throw new QuestionInSectionNotFoundException(section.getId(), sectionQuestion.getQuestionId());
+        }
+        return question;
+    }
+}
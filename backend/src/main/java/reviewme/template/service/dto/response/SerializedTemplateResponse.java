@@ -0,0 +1,8 @@
+package reviewme.template.service.dto.response;
+
+// 직렬화를 마친 TemplateResponse 의 JSON 바이트와, 그 내용으로 만든 강한 ETag
+public record SerializedTemplateResponse(
+        byte[] body,
+        String eTag
+) {
+}
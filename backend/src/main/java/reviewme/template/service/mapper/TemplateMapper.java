@@ -3,119 +3,118 @@ package reviewme.template.service.mapper;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import reviewme.question.domain.OptionGroup;
-import reviewme.question.domain.OptionItem;
-import reviewme.question.domain.Question;
-import reviewme.question.repository.OptionGroupRepository;
-import reviewme.question.repository.OptionItemRepository;
-import reviewme.question.repository.QuestionRepository;
-import reviewme.reviewgroup.domain.ReviewGroup;
-import reviewme.template.domain.Section;
-import reviewme.template.domain.SectionQuestion;
-import reviewme.template.domain.Template;
-import reviewme.template.domain.TemplateSection;
-import reviewme.template.service.exception.MissingOptionItemsInOptionGroupException;
-import reviewme.template.service.exception.SectionInTemplateNotFoundException;
-import reviewme.template.service.exception.TemplateNotFoundByReviewGroupException;
-import reviewme.template.repository.SectionRepository;
-import reviewme.template.repository.TemplateRepository;
+import reviewme.reviewgroup.service.cache.ReviewGroupSnapshot;
+import reviewme.template.service.cache.OptionGroupNode;
+import reviewme.template.service.cache.OptionItemNode;
+import reviewme.template.service.cache.QuestionNode;
+import reviewme.template.service.cache.RenderedSectionCache;
+import reviewme.template.service.cache.SectionNode;
+import reviewme.template.service.cache.SerializedTemplateCache;
+import reviewme.template.service.cache.TemplateGraph;
+import reviewme.template.service.cache.TemplateGraphCache;
 import reviewme.template.service.dto.response.OptionGroupResponse;
 import reviewme.template.service.dto.response.OptionItemResponse;
 import reviewme.template.service.dto.response.QuestionResponse;
 import reviewme.template.service.dto.response.SectionResponse;
+import reviewme.template.service.dto.response.SerializedTemplateResponse;
 import reviewme.template.service.dto.response.TemplateResponse;
-import reviewme.template.service.exception.QuestionInSectionNotFoundException;
+import reviewme.template.service.exception.TemplateNotFoundByReviewGroupException;
 
 @Component
 @RequiredArgsConstructor
 public class TemplateMapper {
 
-    public static final String REVIEWEE_NAME_PLACEHOLDER = "{revieweeName}";
+    private final TemplateGraphCache templateGraphCache;
+    private final RenderedSectionCache renderedSectionCache;
+    private final SerializedTemplateCache serializedTemplateCache;
 
-    private final TemplateRepository templateRepository;
-    private final SectionRepository sectionRepository;
-    private final QuestionRepository questionRepository;
-    private final OptionGroupRepository optionGroupRepository;
-    private final OptionItemRepository optionItemRepository;
+    public TemplateResponse mapToTemplateResponse(ReviewGroupSnapshot reviewGroup) {
+        return mapToTemplateResponse(findTemplateGraphOrThrow(reviewGroup), reviewGroup);
+    }
 
-    public TemplateResponse mapToTemplateResponse(ReviewGroup reviewGroup) {
-        Template template = templateRepository.findById(reviewGroup.getTemplateId())
+    // 직렬화해 둔 응답이 있으면 DTO 를 만들지 않고 그대로 돌려준다.
+    public SerializedTemplateResponse mapToSerializedTemplateResponse(ReviewGroupSnapshot reviewGroup) {
+        TemplateGraph template = findTemplateGraphOrThrow(reviewGroup);
+        return serializedTemplateCache.getOrRender(
+                template, reviewGroup, () -> mapToTemplateResponse(template, reviewGroup)
+        );
+    }
+
+    private TemplateGraph findTemplateGraphOrThrow(ReviewGroupSnapshot reviewGroup) {
+        return templateGraphCache.findTemplateGraph(reviewGroup.getTemplateId())
                 .orElseThrow(() -> new TemplateNotFoundByReviewGroupException(
                         reviewGroup.getId(), reviewGroup.getTemplateId()
                 ));
+    }
 
-        List<SectionResponse> sectionResponses = template.getSectionIds()
-                .stream()
-                .map(templateSection -> mapToSectionResponse(templateSection, reviewGroup))
-                .toList();
+    private TemplateResponse mapToTemplateResponse(TemplateGraph template, ReviewGroupSnapshot reviewGroup) {
+        List<SectionResponse> sectionResponses = renderedSectionCache.getOrRender(
+                template, reviewGroup.getReviewee(), revieweeName -> mapToSectionResponses(template, revieweeName)
+        );
 
         return new TemplateResponse(
-                template.getId(),
+                template.templateId(),
                 reviewGroup.getReviewee(),
                 reviewGroup.getProjectName(),
                 sectionResponses
         );
     }
 
-    private SectionResponse mapToSectionResponse(TemplateSection templateSection, ReviewGroup reviewGroup) {
-        Section section = sectionRepository.findById(templateSection.getSectionId())
-                .orElseThrow(() -> new SectionInTemplateNotFoundException(
-                        templateSection.getTemplateId(), templateSection.getSectionId())
-                );
-        List<QuestionResponse> questionResponses = section.getQuestionIds()
+    private List<SectionResponse> mapToSectionResponses(TemplateGraph template, String revieweeName) {
+        return template.sections()
+                .stream()
+                .map(section -> mapToSectionResponse(section, revieweeName))
+                .toList();
+    }
+
+    private SectionResponse mapToSectionResponse(SectionNode section, String revieweeName) {
+        List<QuestionResponse> questionResponses = section.questions()
                 .stream()
-                .map(sectionQuestion -> mapToQuestionResponse(sectionQuestion, reviewGroup))
+                .map(question -> mapToQuestionResponse(question, revieweeName))
                 .toList();
 
         return new SectionResponse(
-                section.getId(),
-                section.getSectionName(),
-                section.getVisibleType().name(),
-                section.getOnSelectedOptionId(),
-                section.convertHeader(REVIEWEE_NAME_PLACEHOLDER, reviewGroup.getReviewee()),
+                section.id(),
+                section.sectionName(),
+                section.visibleType().name(),
+                section.onSelectedOptionId(),
+                section.renderHeader(revieweeName),
                 questionResponses
         );
     }
 
-    private QuestionResponse mapToQuestionResponse(SectionQuestion sectionQuestion, ReviewGroup reviewGroup) {
-        Question question = questionRepository.findById(sectionQuestion.getQuestionId())
-                .orElseThrow(() -> new QuestionInSectionNotFoundException(
-                        sectionQuestion.getSectionId(), sectionQuestion.getQuestionId())
-                );
-        OptionGroupResponse optionGroupResponse = optionGroupRepository.findByQuestionId(question.getId())
-                .map(this::mapToOptionGroupResponse)
-                .orElse(null);
+    private QuestionResponse mapToQuestionResponse(QuestionNode question, String revieweeName) {
+        OptionGroupResponse optionGroupResponse = null;
+        if (question.optionGroup() != null) {
+            optionGroupResponse = mapToOptionGroupResponse(question.optionGroup());
+        }
 
         return new QuestionResponse(
-                question.getId(),
-                question.isRequired(),
-                question.convertContent(REVIEWEE_NAME_PLACEHOLDER, reviewGroup.getReviewee()),
-                question.getQuestionType().name(),
+                question.id(),
+                question.required(),
+                question.renderContent(revieweeName),
+                question.questionType().name(),
                 optionGroupResponse,
                 question.hasGuideline(),
-                question.convertGuideLine(REVIEWEE_NAME_PLACEHOLDER, reviewGroup.getReviewee())
+                question.renderGuideline(revieweeName)
         );
     }
 
-    private OptionGroupResponse mapToOptionGroupResponse(OptionGroup optionGroup) {
-        List<OptionItem> optionItems = optionItemRepository.findAllByOptionGroupId(optionGroup.getId());
-        if (optionItems.isEmpty()) {
-            throw new MissingOptionItemsInOptionGroupException(optionGroup.getId());
-        }
-
-        List<OptionItemResponse> optionItemResponses = optionItems.stream()
+    private OptionGroupResponse mapToOptionGroupResponse(OptionGroupNode optionGroup) {
+        List<OptionItemResponse> optionItemResponses = optionGroup.optionItems()
+                .stream()
                 .map(this::mapToOptionItemResponse)
                 .toList();
 
         return new OptionGroupResponse(
-                optionGroup.getId(),
-                optionGroup.getMinSelectionCount(),
-                optionGroup.getMaxSelectionCount(),
+                optionGroup.id(),
+                optionGroup.minSelectionCount(),
+                optionGroup.maxSelectionCount(),
                 optionItemResponses
         );
     }
 
-    private OptionItemResponse mapToOptionItemResponse(OptionItem optionItem) {
-        return new OptionItemResponse(optionItem.getId(), optionItem.getContent());
+    private OptionItemResponse mapToOptionItemResponse(OptionItemNode optionItem) {
+        return new OptionItemResponse(optionItem.id(), optionItem.content());
     }
 }
@@ -4,29 +4,82 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 public class Encoder {
 
     private static final String SHA_256 = "SHA-256";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    // 요청마다 MessageDigest 를 새로 찾지 않도록 다 쓴 인스턴스를 돌려받아 재사용한다.
+    // 가상 스레드에서는 스레드 로컬이 요청마다 새로 만들어지므로 스레드와 무관한 풀을 쓴다.
+    private static final int DIGEST_POOL_SIZE = 64;
+    private static final BlockingQueue<MessageDigest> DIGEST_POOL = new ArrayBlockingQueue<>(DIGEST_POOL_SIZE);
 
     private Encoder() {
     }
 
     public static String encode(String code) {
+        return toHexadecimal(digest(code));
+    }
+
+    public static String encode(byte[] bytes) {
+        return toHexadecimal(digest(bytes));
+    }
+
+    public static byte[] digest(String code) {
+        return digest(code.getBytes(UTF_8));
+    }
+
+    public static byte[] digest(byte[] bytes) {
+        MessageDigest messageDigest = borrowDigest();
+        try {
+            return messageDigest.digest(bytes);
+        } finally {
+            DIGEST_POOL.offer(messageDigest);
+        }
+    }
+
+    // 해시 값을 비교하는 데 걸리는 시간으로 일치한 앞부분의 길이를 알 수 없도록 상수 시간에 비교한다.
+    public static boolean matches(String code, byte[] expectedDigest) {
+        return MessageDigest.isEqual(digest(code), expectedDigest);
+    }
+
+    public static byte[] decodeHexadecimal(String hexadecimal) {
+        if (hexadecimal.length() % 2 != 0) {
+            throw new IllegalArgumentException("Hexadecimal string must have an even length: " + hexadecimal.length());
+        }
+        byte[] bytes = new byte[hexadecimal.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(hexadecimal.charAt(i * 2), 16);
+            int low = Character.digit(hexadecimal.charAt(i * 2 + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException("Invalid hexadecimal character at " + i * 2);
+            }
+            bytes[i] = (byte) ((high << 4) | low);
+        }
+        return bytes;
+    }
+
+    private static MessageDigest borrowDigest() {
+        MessageDigest messageDigest = DIGEST_POOL.poll();
+        if (messageDigest != null) {
+            return messageDigest;
+        }
         try {
-            MessageDigest messageDigest = MessageDigest.getInstance(SHA_256);
-            byte[] digest = messageDigest.digest(code.getBytes(UTF_8));
-            return formatHexadecimal(digest);
+            return MessageDigest.getInstance(SHA_256);
         } catch (NoSuchAlgorithmException e) {
             throw new EncoderAlgorithmInitializationException(SHA_256);
         }
     }
 
-    private static String formatHexadecimal(byte[] bytes) {
-        StringBuilder builder = new StringBuilder();
-        for (byte b : bytes) {
-            builder.append("%02x".formatted(b));
+    private static String toHexadecimal(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0x0f];
+            chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0x0f];
         }
-        return builder.toString();
+        return new String(chars);
     }
 }
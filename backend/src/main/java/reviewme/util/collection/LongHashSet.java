@@ -0,0 +1,130 @@
+package reviewme.util.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+// 아이디 집합을 박싱 없이 다루기 위한 선형 탐사 해시 집합. 0 은 빈 칸 표시로 쓰므로 따로 기록한다.
+public final class LongHashSet {
+
+    private static final int MIN_CAPACITY = 4;
+    private static final long EMPTY = 0L;
+
+    private long[] table;
+    private boolean containsZero;
+    private int size;
+
+    public LongHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    public LongHashSet(int expectedSize) {
+        this.table = new long[LongHashing.capacityFor(Math.max(expectedSize, MIN_CAPACITY))];
+    }
+
+    public static LongHashSet of(long... values) {
+        LongHashSet set = new LongHashSet(values.length);
+        for (long value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            boolean added = !containsZero;
+            containsZero = true;
+            size += added ? 1 : 0;
+            return added;
+        }
+
+        int mask = table.length - 1;
+        int index = LongHashing.mix(value) & mask;
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        size++;
+        if (LongHashing.needsResize(size, table.length)) {
+            rehash(table.length << 1);
+        }
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+
+        int mask = table.length - 1;
+        int index = LongHashing.mix(value) & mask;
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(LongConsumer action) {
+        if (containsZero) {
+            action.accept(EMPTY);
+        }
+        for (long value : table) {
+            if (value != EMPTY) {
+                action.accept(value);
+            }
+        }
+    }
+
+    public long[] toArray() {
+        long[] values = new long[size];
+        int index = containsZero ? 1 : 0;
+        for (long value : table) {
+            if (value != EMPTY) {
+                values[index++] = value;
+            }
+        }
+        return values;
+    }
+
+    public LongStream stream() {
+        return LongStream.of(toArray());
+    }
+
+    // 예외 메시지처럼 박싱된 목록이 꼭 필요한 곳에서만 사용한다.
+    public List<Long> toList() {
+        List<Long> values = new ArrayList<>(size);
+        forEach(values::add);
+        return values;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldTable = table;
+        table = new long[capacity];
+        int mask = capacity - 1;
+        for (long value : oldTable) {
+            if (value == EMPTY) {
+                continue;
+            }
+            int index = LongHashing.mix(value) & mask;
+            while (table[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            table[index] = value;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package reviewme.util.collection;
+
+final class LongHashing {
+
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private LongHashing() {
+    }
+
+    // 연속된 아이디가 같은 구간에 몰리지 않도록 비트를 섞는다.
+    static int mix(long value) {
+        long hash = value * GOLDEN_RATIO;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    // 적재율을 1/2 이하로 유지하는 2의 거듭제곱 크기를 구한다.
+    static int capacityFor(int expectedSize) {
+        if (expectedSize >= MAX_CAPACITY >> 1) {
+            return MAX_CAPACITY;
+        }
+        return Integer.highestOneBit(expectedSize * 2 - 1) << 1;
+    }
+
+    static boolean needsResize(int size, int capacity) {
+        return size > capacity >> 1 && capacity < MAX_CAPACITY;
+    }
+}
@@ -0,0 +1,144 @@
+package reviewme.util.collection;
+
+import jakarta.annotation.Nullable;
+
+// 아이디를 박싱하지 않고 값을 찾기 위한 선형 탐사 해시 맵. 키 0 은 별도 칸에 보관한다.
+public final class LongObjectHashMap<V> {
+
+    private static final int MIN_CAPACITY = 4;
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private Object[] values;
+    private boolean hasZeroKey;
+    private Object zeroValue;
+    private int size;
+
+    public LongObjectHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public LongObjectHashMap(int expectedSize) {
+        int capacity = LongHashing.capacityFor(Math.max(expectedSize, MIN_CAPACITY));
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+    }
+
+    @Nullable
+    public V put(long key, V value) {
+        return put(key, value, true);
+    }
+
+    @Nullable
+    public V putIfAbsent(long key, V value) {
+        return put(key, value, false);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == EMPTY) {
+            return (V) zeroValue;
+        }
+
+        int mask = keys.length - 1;
+        int index = LongHashing.mix(key) & mask;
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                return (V) values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == EMPTY) {
+            return hasZeroKey;
+        }
+
+        int mask = keys.length - 1;
+        int index = LongHashing.mix(key) & mask;
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long[] keys() {
+        long[] result = new long[size];
+        int index = hasZeroKey ? 1 : 0;
+        for (long key : keys) {
+            if (key != EMPTY) {
+                result[index++] = key;
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private V put(long key, V value, boolean overwrite) {
+        if (key == EMPTY) {
+            V previous = (V) zeroValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            if (overwrite || previous == null) {
+                zeroValue = value;
+            }
+            return previous;
+        }
+
+        int mask = keys.length - 1;
+        int index = LongHashing.mix(key) & mask;
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                V previous = (V) values[index];
+                if (overwrite || previous == null) {
+                    values[index] = value;
+                }
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        size++;
+        if (LongHashing.needsResize(size, keys.length)) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) {
+                continue;
+            }
+            int index = LongHashing.mix(oldKeys[i]) & mask;
+            while (keys[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = oldKeys[i];
+            values[index] = oldValues[i];
+        }
+    }
+}
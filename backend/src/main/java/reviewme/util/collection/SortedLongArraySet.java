@@ -0,0 +1,101 @@
+package reviewme.util.collection;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+// 만든 뒤 바뀌지 않는 아이디 집합. 아이디가 촘촘하면 비트셋으로, 아니면 이진 탐색으로 찾는다.
+public final class SortedLongArraySet {
+
+    private static final SortedLongArraySet EMPTY = new SortedLongArraySet(new long[0]);
+
+    // 아이디 범위가 원소 수의 이 배수 이하일 때만 비트셋을 만든다.
+    private static final int DENSE_RANGE_FACTOR = 8;
+
+    private final long[] values;
+    private final long min;
+    private final long[] bits;
+
+    private SortedLongArraySet(long[] values) {
+        this.values = values;
+        this.min = values.length == 0 ? 0 : values[0];
+        this.bits = isDense(values) ? toBits(values) : null;
+    }
+
+    public static SortedLongArraySet empty() {
+        return EMPTY;
+    }
+
+    public static SortedLongArraySet of(long... values) {
+        if (values.length == 0) {
+            return EMPTY;
+        }
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return new SortedLongArraySet(distinct(sorted));
+    }
+
+    public static SortedLongArraySet from(LongHashSet set) {
+        return of(set.toArray());
+    }
+
+    private static long[] distinct(long[] sorted) {
+        int length = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[length - 1]) {
+                sorted[length++] = sorted[i];
+            }
+        }
+        return length == sorted.length ? sorted : Arrays.copyOf(sorted, length);
+    }
+
+    private static boolean isDense(long[] values) {
+        if (values.length == 0) {
+            return false;
+        }
+        long range = values[values.length - 1] - values[0];
+        return 0 <= range && range < (long) values.length * DENSE_RANGE_FACTOR;
+    }
+
+    private static long[] toBits(long[] values) {
+        long range = values[values.length - 1] - values[0];
+        long[] bits = new long[(int) (range >>> 6) + 1];
+        for (long value : values) {
+            long index = value - values[0];
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+        return bits;
+    }
+
+    public boolean contains(long value) {
+        if (bits == null) {
+            return Arrays.binarySearch(values, value) >= 0;
+        }
+        long index = value - min;
+        if (index < 0 || index >= (long) bits.length << 6) {
+            return false;
+        }
+        return (bits[(int) (index >>> 6)] & (1L << index)) != 0;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    public long[] toArray() {
+        return values.clone();
+    }
+
+    public LongStream stream() {
+        return Arrays.stream(values);
+    }
+
+    // 예외 메시지처럼 박싱된 목록이 꼭 필요한 곳에서만 사용한다.
+    public List<Long> toList() {
+        return stream().boxed().toList();
+    }
+}
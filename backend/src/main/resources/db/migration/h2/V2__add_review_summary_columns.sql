@@ -0,0 +1,2 @@
+ALTER TABLE review ADD COLUMN preview VARCHAR(200);
+ALTER TABLE review ADD COLUMN category_option_ids VARCHAR(1000);
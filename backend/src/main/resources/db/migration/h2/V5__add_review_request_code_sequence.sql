@@ -0,0 +1,3 @@
+-- 리뷰 요청 코드는 이 시퀀스에서 받은 번호를 섞어서 만든다.
+INSERT INTO id_sequence (sequence_name, next_val)
+VALUES ('review_request_code', 100);
@@ -0,0 +1,13 @@
+CREATE UNIQUE INDEX uk_review_group_request_code ON review_group (review_request_code);
+
+CREATE INDEX idx_review_group_created_at ON review (review_group_id, created_at, id);
+
+CREATE INDEX idx_template_section_template_id ON template_section (template_id, section_id);
+
+CREATE INDEX idx_section_question_section_id ON section_question (section_id, question_id);
+
+CREATE INDEX idx_option_group_question_id ON option_group (question_id);
+
+CREATE INDEX idx_option_item_option_group_id ON option_item (option_group_id, position);
+
+CREATE INDEX idx_option_item_option_type ON option_item (option_type);
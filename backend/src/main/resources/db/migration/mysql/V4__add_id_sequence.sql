@@ -0,0 +1,16 @@
+CREATE TABLE id_sequence
+(
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT,
+    PRIMARY KEY (sequence_name)
+);
+
+-- 이미 발급된 아이디와 겹치지 않도록 현재 최댓값 다음 블록부터 나눠준다.
+INSERT INTO id_sequence (sequence_name, next_val)
+SELECT 'review', COALESCE(MAX(id), 0) + 100 FROM review;
+INSERT INTO id_sequence (sequence_name, next_val)
+SELECT 'text_answer', COALESCE(MAX(id), 0) + 100 FROM text_answer;
+INSERT INTO id_sequence (sequence_name, next_val)
+SELECT 'checkbox_answer', COALESCE(MAX(id), 0) + 100 FROM checkbox_answer;
+INSERT INTO id_sequence (sequence_name, next_val)
+SELECT 'checkbox_answer_selected_option', COALESCE(MAX(id), 0) + 100 FROM checkbox_answer_selected_option;
@@ -0,0 +1,36 @@
+CREATE TABLE review_group_stats
+(
+    id               BIGINT AUTO_INCREMENT,
+    review_group_id  BIGINT       NOT NULL,
+    review_count     BIGINT       NOT NULL,
+    last_reviewed_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX uk_review_group_stats_group ON review_group_stats (review_group_id);
+
+CREATE TABLE review_group_option_stats
+(
+    id              BIGINT AUTO_INCREMENT,
+    review_group_id BIGINT       NOT NULL,
+    option_id       BIGINT       NOT NULL,
+    option_type     VARCHAR(255) NOT NULL,
+    selected_count  BIGINT       NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX uk_review_group_option_stats_option ON review_group_option_stats (review_group_id, option_id);
+
+-- 이미 저장된 리뷰로 집계를 채운다. 이후로는 리뷰를 저장할 때 함께 갱신한다.
+INSERT INTO review_group_stats (review_group_id, review_count, last_reviewed_at)
+SELECT review_group_id, COUNT(*), MAX(created_at)
+FROM review
+GROUP BY review_group_id;
+
+INSERT INTO review_group_option_stats (review_group_id, option_id, option_type, selected_count)
+SELECT r.review_group_id, oi.id, oi.option_type, COUNT(*)
+FROM review r
+         JOIN checkbox_answer ca ON ca.review_id = r.id
+         JOIN checkbox_answer_selected_option cs ON cs.checkbox_answer_id = ca.id
+         JOIN option_item oi ON oi.id = cs.selected_option_id
+GROUP BY r.review_group_id, oi.id, oi.option_type;
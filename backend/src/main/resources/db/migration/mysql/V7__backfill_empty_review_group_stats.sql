@@ -0,0 +1,18 @@
+-- 리뷰 저장 시에는 집계 행을 UPDATE 만 하므로, 아직 집계 행이 없는 그룹과 선택지의 행을 0 으로 만들어 둔다.
+INSERT INTO review_group_stats (review_group_id, review_count, last_reviewed_at)
+SELECT rg.id, 0, NULL
+FROM review_group rg
+WHERE NOT EXISTS (SELECT 1 FROM review_group_stats s WHERE s.review_group_id = rg.id);
+
+INSERT INTO review_group_option_stats (review_group_id, option_id, option_type, selected_count)
+SELECT DISTINCT rg.id, oi.id, oi.option_type, 0
+FROM review_group rg
+         JOIN template_section ts ON ts.template_id = rg.template_id
+         JOIN section_question sq ON sq.section_id = ts.section_id
+         JOIN option_group og ON og.question_id = sq.question_id
+         JOIN option_item oi ON oi.option_group_id = og.id
+WHERE NOT EXISTS (
+    SELECT 1
+    FROM review_group_option_stats s
+    WHERE s.review_group_id = rg.id AND s.option_id = oi.id
+);
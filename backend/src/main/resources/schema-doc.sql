@@ -9,15 +9,21 @@ CREATE TABLE review_group
     PRIMARY KEY (id)
 );
 
+CREATE UNIQUE INDEX uk_review_group_request_code ON review_group (review_request_code);
+
 CREATE TABLE review
 (
-    id              BIGINT AUTO_INCREMENT,
-    created_at      TIMESTAMP(6) NOT NULL,
-    review_group_id BIGINT       NOT NULL,
-    template_id     BIGINT       NOT NULL,
+    id                  BIGINT AUTO_INCREMENT,
+    created_at          TIMESTAMP(6)  NOT NULL,
+    review_group_id     BIGINT        NOT NULL,
+    template_id         BIGINT        NOT NULL,
+    preview             VARCHAR(200),
+    category_option_ids VARCHAR(1000),
     PRIMARY KEY (id)
 );
 
+CREATE INDEX idx_review_group_created_at ON review (review_group_id, created_at, id);
+
 CREATE TABLE template
 (
     id BIGINT AUTO_INCREMENT,
@@ -44,6 +50,8 @@ CREATE TABLE template_section
     FOREIGN KEY (template_id) REFERENCES template (id)
 );
 
+CREATE INDEX idx_template_section_template_id ON template_section (template_id, section_id);
+
 CREATE TABLE question
 (
     id            BIGINT AUTO_INCREMENT,
@@ -64,6 +72,8 @@ CREATE TABLE section_question
     FOREIGN KEY (section_id) REFERENCES section (id)
 );
 
+CREATE INDEX idx_section_question_section_id ON section_question (section_id, question_id);
+
 CREATE TABLE text_answer
 (
     id          BIGINT AUTO_INCREMENT,
@@ -101,6 +111,8 @@ CREATE TABLE option_group
     PRIMARY KEY (id)
 );
 
+CREATE INDEX idx_option_group_question_id ON option_group (question_id);
+
 CREATE TABLE option_item
 (
     id              BIGINT AUTO_INCREMENT,
@@ -110,3 +122,38 @@ CREATE TABLE option_item
     position        INTEGER                     NOT NULL,
     PRIMARY KEY (id)
 );
+
+CREATE INDEX idx_option_item_option_group_id ON option_item (option_group_id, position);
+
+CREATE INDEX idx_option_item_option_type ON option_item (option_type);
+
+CREATE TABLE id_sequence
+(
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT,
+    PRIMARY KEY (sequence_name)
+);
+
+CREATE TABLE review_group_stats
+(
+    id               BIGINT AUTO_INCREMENT,
+    review_group_id  BIGINT       NOT NULL,
+    review_count     BIGINT       NOT NULL,
+    last_reviewed_at TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX uk_review_group_stats_group ON review_group_stats (review_group_id);
+
+CREATE TABLE review_group_option_stats
+(
+    id              BIGINT AUTO_INCREMENT,
+    review_group_id BIGINT       NOT NULL,
+    option_id       BIGINT       NOT NULL,
+    option_type     VARCHAR(255) NOT NULL,
+    selected_count  BIGINT       NOT NULL,
+    PRIMARY KEY (id)
+);
+
+
+CREATE UNIQUE INDEX uk_review_group_option_stats_option ON review_group_option_stats (review_group_id, option_id);
@@ -22,12 +22,15 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import reviewme.review.controller.ReviewController;
+import reviewme.review.service.ReviewBatchRegisterService;
 import reviewme.review.service.ReviewRegisterService;
 import reviewme.review.service.ReviewDetailLookupService;
+import reviewme.review.service.ReviewExportService;
 import reviewme.review.service.ReviewListLookupService;
 import reviewme.reviewgroup.controller.ReviewGroupController;
 import reviewme.reviewgroup.service.ReviewGroupLookupService;
 import reviewme.reviewgroup.service.ReviewGroupService;
+import reviewme.reviewgroup.service.ReviewGroupStatsService;
 import reviewme.template.controller.TemplateController;
 import reviewme.template.service.TemplateService;
 
@@ -53,12 +56,21 @@ public abstract class ApiTest {
     @MockBean
     protected ReviewRegisterService reviewRegisterService;
 
+    @MockBean
+    protected ReviewBatchRegisterService reviewBatchRegisterService;
+
     @MockBean
     protected ReviewDetailLookupService reviewDetailLookupService;
 
+    @MockBean
+    protected ReviewExportService reviewExportService;
+
     @MockBean
     protected ReviewGroupLookupService reviewGroupLookupService;
 
+    @MockBean
+    protected ReviewGroupStatsService reviewGroupStatsService;
+
     @BeforeEach
     void setUpRestDocs(WebApplicationContext context, RestDocumentationContextProvider provider) {
         UriModifyingOperationPreprocessor uriModifier = modifyUris()
@@ -3,6 +3,7 @@ package reviewme.api;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
@@ -11,6 +12,7 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.requestF
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -21,10 +23,13 @@ import org.springframework.restdocs.mockmvc.RestDocumentationResultHandler;
 import org.springframework.restdocs.payload.FieldDescriptor;
 import org.springframework.restdocs.request.ParameterDescriptor;
 import reviewme.review.service.exception.ReviewGroupNotFoundByReviewRequestCodeException;
+import reviewme.review.service.dto.request.ReviewBatchRegisterRequest;
 import reviewme.review.service.dto.request.ReviewRegisterRequest;
 import reviewme.review.service.dto.response.list.ReviewCategoryResponse;
 import reviewme.review.service.dto.response.list.ReviewListElementResponse;
 import reviewme.review.service.dto.response.list.ReceivedReviewsResponse;
+import reviewme.review.service.dto.response.register.ReviewBatchRegisterResponse;
+import reviewme.reviewgroup.service.dto.GroupAccessCredential;
 
 class ReviewApiTest extends ApiTest {
 
@@ -71,6 +76,45 @@ class ReviewApiTest extends ApiTest {
                 .statusCode(201);
     }
 
+    @Test
+    void 여러_리뷰를_한_번에_등록한다() {
+        BDDMockito.given(reviewBatchRegisterService.registerReviews(any(ReviewBatchRegisterRequest.class)))
+                .willReturn(new ReviewBatchRegisterResponse(List.of(1L, 2L)));
+
+        String batchRequest = """
+                {
+                    "reviews": [%s, %s]
+                }
+                """.formatted(request, request);
+
+        FieldDescriptor[] requestFieldDescriptors = {
+                fieldWithPath("reviews[]").description("등록할 리뷰 목록 (최대 1,000개)"),
+                fieldWithPath("reviews[].reviewRequestCode").description("리뷰 요청 코드"),
+
+                fieldWithPath("reviews[].answers[]").description("답변 목록"),
+                fieldWithPath("reviews[].answers[].questionId").description("질문 ID"),
+                fieldWithPath("reviews[].answers[].selectedOptionIds").description("선택한 옵션 ID 목록").optional(),
+                fieldWithPath("reviews[].answers[].text").description("서술 답변").optional()
+        };
+
+        FieldDescriptor[] responseFieldDescriptors = {
+                fieldWithPath("reviewIds[]").description("등록된 리뷰 ID 목록 (요청 순서)")
+        };
+
+        RestDocumentationResultHandler handler = document(
+                "create-reviews-batch",
+                requestFields(requestFieldDescriptors),
+                responseFields(responseFieldDescriptors)
+        );
+
+        givenWithSpec().log().all()
+                .body(batchRequest)
+                .when().post("/v2/reviews/batch")
+                .then().log().all()
+                .apply(handler)
+                .statusCode(201);
+    }
+
     @Test
     void 리뷰_그룹_코드가_올바르지_않은_경우_예외가_발생한다() {
         BDDMockito.given(reviewRegisterService.registerReview(any(ReviewRegisterRequest.class)))
@@ -100,11 +144,16 @@ class ReviewApiTest extends ApiTest {
 
     @Test
     void 자신이_받은_리뷰_한_개를_조회한다() {
-        BDDMockito.given(reviewDetailLookupService.getReviewDetail(anyLong(), anyString(), anyString()))
+        BDDMockito.given(reviewDetailLookupService.getReviewDetailETag(
+                anyLong(), anyString(), any(GroupAccessCredential.class)))
+                .willReturn("\"r1-t1-abc\"");
+        BDDMockito.given(reviewDetailLookupService.getReviewDetail(
+                anyLong(), anyString(), any(GroupAccessCredential.class)))
                 .willReturn(TemplateFixture.templateAnswerResponse());
 
         HeaderDescriptor[] requestHeaderDescriptors = {
-                headerWithName("groupAccessCode").description("그룹 접근 코드")
+                headerWithName("groupAccessCode").description("그룹 접근 코드").optional(),
+                headerWithName("groupAccessToken").description("접근 코드 확인으로 발급받은 그룹 접근 토큰").optional()
         };
 
         ParameterDescriptor[] requestPathDescriptors = {
@@ -164,17 +213,29 @@ class ReviewApiTest extends ApiTest {
                 new ReviewListElementResponse(2L, LocalDate.of(2024, 8, 2), "(리뷰 미리보기 2)",
                         List.of(new ReviewCategoryResponse(2L, "카테고리 2")))
         );
-        ReceivedReviewsResponse response = new ReceivedReviewsResponse("아루", "리뷰미", receivedReviews);
-        BDDMockito.given(reviewListLookupService.getReceivedReviews(anyString(), anyString()))
+        ReceivedReviewsResponse response = new ReceivedReviewsResponse("아루", "리뷰미", 1L, true, receivedReviews);
+        BDDMockito.given(reviewListLookupService.getReceivedReviewsETag(anyString(), any(GroupAccessCredential.class)))
+                .willReturn("\"g1-2-abc\"");
+        BDDMockito.given(reviewListLookupService.getReceivedReviews(
+                anyString(), any(GroupAccessCredential.class), anyLong(), any()))
                 .willReturn(response);
 
         HeaderDescriptor[] requestHeaderDescriptors = {
-                headerWithName("groupAccessCode").description("그룹 접근 코드")
+                headerWithName("groupAccessCode").description("그룹 접근 코드").optional(),
+                headerWithName("groupAccessToken").description("접근 코드 확인으로 발급받은 그룹 접근 토큰").optional()
+        };
+
+        ParameterDescriptor[] requestParameterDescriptors = {
+                parameterWithName("reviewRequestCode").description("리뷰 요청 코드"),
+                parameterWithName("lastReviewId").description("이전 페이지의 마지막 리뷰 ID").optional(),
+                parameterWithName("size").description("페이지 크기 (기본 10, 최대 50, 커서도 없으면 전체)").optional()
         };
 
         FieldDescriptor[] responseFieldDescriptors = {
                 fieldWithPath("revieweeName").description("리뷰이 이름"),
                 fieldWithPath("projectName").description("프로젝트 이름"),
+                fieldWithPath("lastReviewId").description("현재 페이지의 마지막 리뷰 ID").optional(),
+                fieldWithPath("isLastPage").description("마지막 페이지 여부"),
 
                 fieldWithPath("reviews[]").description("리뷰 목록"),
                 fieldWithPath("reviews[].reviewId").description("리뷰 ID"),
@@ -189,15 +250,37 @@ class ReviewApiTest extends ApiTest {
         RestDocumentationResultHandler handler = document(
                 "received-reviews",
                 requestHeaders(requestHeaderDescriptors),
+                queryParameters(requestParameterDescriptors),
                 responseFields(responseFieldDescriptors)
         );
 
         givenWithSpec().log().all()
                 .queryParam("reviewRequestCode", "asdfasdf")
+                .queryParam("lastReviewId", "3")
+                .queryParam("size", "2")
                 .header("groupAccessCode", "qwerqwer")
                 .when().get("/v2/reviews")
                 .then().log().all()
                 .apply(handler)
                 .statusCode(200);
     }
+
+    @Test
+    void ETag_가_일치하면_리뷰_목록을_만들지_않고_304_를_반환한다() {
+        String eTag = "\"g1-2-abc\"";
+        BDDMockito.given(reviewListLookupService.getReceivedReviewsETag(anyString(), any(GroupAccessCredential.class)))
+                .willReturn(eTag);
+
+        givenWithSpec().log().all()
+                .queryParam("reviewRequestCode", "asdfasdf")
+                .header("groupAccessCode", "qwerqwer")
+                .header("If-None-Match", eTag)
+                .when().get("/v2/reviews")
+                .then().log().all()
+                .statusCode(304)
+                .header("ETag", eTag);
+
+        BDDMockito.then(reviewListLookupService).should(never())
+                .getReceivedReviews(anyString(), any(GroupAccessCredential.class), any(), any());
+    }
 }
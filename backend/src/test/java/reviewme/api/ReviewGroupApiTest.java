@@ -3,6 +3,8 @@ package reviewme.api;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
@@ -10,16 +12,23 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.response
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.mockito.BDDMockito;
+import org.springframework.restdocs.headers.HeaderDescriptor;
 import org.springframework.restdocs.mockmvc.RestDocumentationResultHandler;
 import org.springframework.restdocs.payload.FieldDescriptor;
 import org.springframework.restdocs.request.ParameterDescriptor;
 import reviewme.reviewgroup.service.dto.CheckValidAccessRequest;
 import reviewme.reviewgroup.service.dto.CheckValidAccessResponse;
+import reviewme.reviewgroup.service.dto.GroupAccessCredential;
+import reviewme.reviewgroup.service.dto.KeywordRankingResponse;
+import reviewme.reviewgroup.service.dto.OptionSelectionResponse;
 import reviewme.reviewgroup.service.dto.ReviewGroupCreationRequest;
 import reviewme.reviewgroup.service.dto.ReviewGroupCreationResponse;
 import reviewme.reviewgroup.service.dto.ReviewGroupResponse;
+import reviewme.reviewgroup.service.dto.ReviewGroupStatsResponse;
 
 class ReviewGroupApiTest extends ApiTest {
 
@@ -88,10 +97,102 @@ class ReviewGroupApiTest extends ApiTest {
                 .statusCode(200);
     }
 
+    @Test
+    void 리뷰_그룹의_리뷰_집계를_반환한다() {
+        ReviewGroupStatsResponse response = new ReviewGroupStatsResponse(
+                12,
+                LocalDateTime.of(2024, 8, 1, 12, 30),
+                List.of(
+                        new OptionSelectionResponse(1, "커뮤니케이션, 협업 능력", 9),
+                        new OptionSelectionResponse(2, "문제 해결 능력", 4)
+                ),
+                List.of(new OptionSelectionResponse(10, "꼼꼼해요", 7))
+        );
+        BDDMockito.given(reviewGroupStatsService.getReviewGroupStats(anyString(), any(GroupAccessCredential.class)))
+                .willReturn(response);
+
+        HeaderDescriptor[] requestHeaderDescriptors = {
+                headerWithName("groupAccessCode").description("그룹 접근 코드").optional(),
+                headerWithName("groupAccessToken").description("접근 코드 확인으로 발급받은 그룹 접근 토큰").optional()
+        };
+
+        ParameterDescriptor[] parameterDescriptors = {
+                parameterWithName("reviewRequestCode").description("리뷰 요청 코드")
+        };
+
+        FieldDescriptor[] responseFieldDescriptors = {
+                fieldWithPath("reviewCount").description("받은 리뷰 수"),
+                fieldWithPath("lastReviewedAt").description("마지막으로 리뷰를 받은 시각").optional(),
+                fieldWithPath("categories[].optionId").description("카테고리 선택지 ID"),
+                fieldWithPath("categories[].content").description("카테고리 내용"),
+                fieldWithPath("categories[].count").description("카테고리가 선택된 횟수"),
+                fieldWithPath("keywords[].optionId").description("키워드 선택지 ID"),
+                fieldWithPath("keywords[].content").description("키워드 내용"),
+                fieldWithPath("keywords[].count").description("키워드가 선택된 횟수")
+        };
+
+        RestDocumentationResultHandler handler = document(
+                "review-group-stats",
+                requestHeaders(requestHeaderDescriptors),
+                queryParameters(parameterDescriptors),
+                responseFields(responseFieldDescriptors)
+        );
+
+        givenWithSpec().log().all()
+                .queryParam("reviewRequestCode", "ABCD1234")
+                .header("groupAccessCode", "qwerqwer")
+                .when().get("/v2/groups/stats")
+                .then().log().all()
+                .apply(handler)
+                .statusCode(200);
+    }
+
+    @Test
+    void 리뷰_그룹에서_가장_많이_선택된_키워드를_반환한다() {
+        KeywordRankingResponse response = new KeywordRankingResponse(List.of(
+                new OptionSelectionResponse(10, "꼼꼼해요", 7),
+                new OptionSelectionResponse(12, "친절해요", 5)
+        ));
+        BDDMockito.given(reviewGroupStatsService.getTopKeywords(anyString(), any(GroupAccessCredential.class), any()))
+                .willReturn(response);
+
+        HeaderDescriptor[] requestHeaderDescriptors = {
+                headerWithName("groupAccessCode").description("그룹 접근 코드").optional(),
+                headerWithName("groupAccessToken").description("접근 코드 확인으로 발급받은 그룹 접근 토큰").optional()
+        };
+
+        ParameterDescriptor[] parameterDescriptors = {
+                parameterWithName("reviewRequestCode").description("리뷰 요청 코드"),
+                parameterWithName("limit").description("조회할 키워드 수 (기본 5, 최대 20)").optional()
+        };
+
+        FieldDescriptor[] responseFieldDescriptors = {
+                fieldWithPath("keywords[].optionId").description("키워드 선택지 ID"),
+                fieldWithPath("keywords[].content").description("키워드 내용"),
+                fieldWithPath("keywords[].count").description("키워드가 선택된 횟수")
+        };
+
+        RestDocumentationResultHandler handler = document(
+                "review-group-keywords",
+                requestHeaders(requestHeaderDescriptors),
+                queryParameters(parameterDescriptors),
+                responseFields(responseFieldDescriptors)
+        );
+
+        givenWithSpec().log().all()
+                .queryParam("reviewRequestCode", "ABCD1234")
+                .queryParam("limit", 2)
+                .header("groupAccessCode", "qwerqwer")
+                .when().get("/v2/groups/keywords")
+                .then().log().all()
+                .apply(handler)
+                .statusCode(200);
+    }
+
     @Test
     void 리뷰_그룹_코드와_액세스_코드로_일치_여부를_판단한다() {
         BDDMockito.given(reviewGroupService.checkGroupAccessCode(any(CheckValidAccessRequest.class)))
-                .willReturn(new CheckValidAccessResponse(true));
+                .willReturn(CheckValidAccessResponse.granted("Z3JvdXBBY2Nlc3NUb2tlbg"));
 
         String request = """
                 {
@@ -106,7 +207,8 @@ class ReviewGroupApiTest extends ApiTest {
         };
 
         FieldDescriptor[] responseFieldDescriptors = {
-                fieldWithPath("hasAccess").description("코드 일치 여부 (비밀번호 일치)")
+                fieldWithPath("hasAccess").description("코드 일치 여부 (비밀번호 일치)"),
+                fieldWithPath("groupAccessToken").description("리뷰 조회 시 접근 코드 대신 보낼 수 있는 토큰").optional()
         };
 
         RestDocumentationResultHandler handler = document(
@@ -1,25 +1,33 @@
 package reviewme.api;
 
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.mockito.BDDMockito;
+import org.springframework.restdocs.headers.HeaderDescriptor;
 import org.springframework.restdocs.mockmvc.RestDocumentationResultHandler;
 import org.springframework.restdocs.payload.FieldDescriptor;
 import org.springframework.restdocs.request.ParameterDescriptor;
 import reviewme.review.service.exception.ReviewGroupNotFoundByReviewRequestCodeException;
+import reviewme.template.service.dto.response.SerializedTemplateResponse;
+import reviewme.util.Encoder;
 
 class TemplateApiTest extends ApiTest {
 
     @Test
-    void 리뷰_작성을_위한_템플릿을_반환한다() {
-        BDDMockito.given(templateService.generateReviewForm(anyString()))
-                .willReturn(TemplateFixture.templateResponse());
+    void 리뷰_작성을_위한_템플릿을_반환한다() throws JsonProcessingException {
+        byte[] body = new ObjectMapper().writeValueAsBytes(TemplateFixture.templateResponse());
+        BDDMockito.given(templateService.generateSerializedReviewForm(anyString()))
+                .willReturn(new SerializedTemplateResponse(body, "\"" + Encoder.encode(body) + "\""));
 
         ParameterDescriptor[] requestParameterDescriptors = {
                 parameterWithName("reviewRequestCode").description("리뷰 요청 코드")
@@ -55,9 +63,14 @@ class TemplateApiTest extends ApiTest {
                 fieldWithPath("sections[].questions[].optionGroup.options[].content").description("선택 항목 내용"),
         };
 
+        HeaderDescriptor[] responseHeaderDescriptors = {
+                headerWithName("ETag").description("응답 내용으로 만든 ETag")
+        };
+
         RestDocumentationResultHandler handler = document(
                 "get-review-form",
                 queryParameters(requestParameterDescriptors),
+                responseHeaders(responseHeaderDescriptors),
                 responseFields(responseFieldDescriptors)
         );
 
@@ -71,7 +84,7 @@ class TemplateApiTest extends ApiTest {
 
     @Test
     void 리뷰_그룹이_존재하지_않는_경우_예외를_반환한다() {
-        BDDMockito.given(templateService.generateReviewForm(anyString()))
+        BDDMockito.given(templateService.generateSerializedReviewForm(anyString()))
                 .willThrow(new ReviewGroupNotFoundByReviewRequestCodeException(anyString()));
 
         ParameterDescriptor[] requestParameterDescriptors = {
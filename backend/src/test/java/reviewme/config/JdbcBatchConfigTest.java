@@ -0,0 +1,40 @@
+package reviewme.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+class JdbcBatchConfigTest {
+
+    private final BeanPostProcessor postProcessor = JdbcBatchConfig.mysqlDataSourcePropertiesPostProcessor();
+
+    @Test
+    void MySQL_데이터소스에는_배치_재작성과_커서_조회를_켠다() {
+        // given
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:mysql://localhost:3306/review_me");
+
+        // when
+        postProcessor.postProcessBeforeInitialization(dataSource, "dataSource");
+
+        // then
+        assertThat(dataSource.getDataSourceProperties())
+                .containsEntry("rewriteBatchedStatements", "true")
+                .containsEntry("useCursorFetch", "true");
+    }
+
+    @Test
+    void MySQL_이_아닌_데이터소스는_그대로_둔다() {
+        // given
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:test");
+
+        // when
+        postProcessor.postProcessBeforeInitialization(dataSource, "dataSource");
+
+        // then
+        assertThat(dataSource.getDataSourceProperties()).isEmpty();
+    }
+}
@@ -22,6 +22,7 @@ class HeaderPropertyArgumentResolverTest {
     void setUp() {
         given(parameter.hasParameterAnnotation(HeaderProperty.class)).willReturn(true);
         given(parameter.getParameterAnnotation(HeaderProperty.class)).willReturn(headerProperty);
+        given(headerProperty.required()).willReturn(true);
     }
 
     @Test
@@ -53,4 +54,19 @@ class HeaderPropertyArgumentResolverTest {
         // then
         assertThat(actual).isEqualTo(headerValue);
     }
+
+    @Test
+    void 필수가_아닌_검증값이_헤더에_존재하지_않으면_null_을_반환한다() {
+        // given
+        NativeWebRequest request = mock(NativeWebRequest.class);
+        given(request.getNativeRequest()).willReturn(new MockHttpServletRequest());
+        given(headerProperty.headerName()).willReturn("test");
+        given(headerProperty.required()).willReturn(false);
+
+        // when
+        String actual = resolver.resolveArgument(parameter, null, request, null);
+
+        // then
+        assertThat(actual).isNull();
+    }
 }
@@ -0,0 +1,72 @@
+package reviewme.global;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            // ReviewGroupRepository.findByReviewRequestCode
+            """
+            SELECT rg.* FROM review_group rg
+            WHERE rg.review_request_code = 'reviewRequestCode'
+            """,
+            // ReviewRepository.findAllByGroupId
+            """
+            SELECT r.* FROM review r
+            WHERE r.review_group_id = 1
+            ORDER BY r.created_at DESC
+            """,
+            // OptionGroupRepository.findAllByQuestionIds
+            """
+            SELECT og.* FROM option_group og
+            WHERE og.question_id IN (1, 2)
+            """,
+            // OptionItemRepository.findAllByQuestionIds
+            """
+            SELECT o.* FROM option_item o
+            JOIN option_group og
+            ON o.option_group_id = og.id
+            WHERE og.question_id IN (1, 2)
+            """,
+            // OptionItemRepository.findAllByOptionType
+            """
+            SELECT o.* FROM option_item o
+            WHERE o.option_type = 'CATEGORY'
+            """,
+            // QuestionRepository.findAllQuestionIdByTemplateId
+            """
+            SELECT q.id FROM question q
+            JOIN section_question sq
+            ON q.id = sq.question_id
+            JOIN template_section ts
+            ON sq.section_id = ts.section_id
+            WHERE ts.template_id = 1
+            """,
+            // SectionRepository.findAllByTemplateId
+            """
+            SELECT s.* FROM section s
+            JOIN template_section ts
+            ON s.id = ts.section_id
+            WHERE ts.template_id = 1
+            ORDER BY s.position ASC
+            """
+    })
+    void 조회_쿼리는_테이블_전체를_스캔하지_않는다(String query) {
+        // when
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + query, String.class);
+
+        // then
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+}
@@ -4,8 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.util.List;
-import java.util.Set;
 import org.junit.jupiter.api.Test;
+import reviewme.util.collection.LongHashSet;
 
 class ReviewTest {
 
@@ -17,10 +17,10 @@ class ReviewTest {
         Review review = new Review(1L, 1L, List.of(textAnswer), List.of(checkboxAnswer));
 
         // when
-        Set<Long> allQuestionIdsFromAnswers = review.getAnsweredQuestionIds();
+        LongHashSet allQuestionIdsFromAnswers = review.getAnsweredQuestionIds();
 
         // then
-        assertThat(allQuestionIdsFromAnswers).containsAll(List.of(1L, 2L));
+        assertThat(allQuestionIdsFromAnswers.toArray()).containsExactlyInAnyOrder(1L, 2L);
     }
 
     @Test
@@ -31,10 +31,10 @@ class ReviewTest {
         Review review = new Review(1L, 1L, List.of(), List.of(checkboxAnswer1, checkboxAnswer2));
 
         // when
-        Set<Long> allQuestionIdsFromAnswers = review.getAllCheckBoxOptionIds();
+        LongHashSet allQuestionIdsFromAnswers = review.getAllCheckBoxOptionIds();
 
         // then
-        assertThat(allQuestionIdsFromAnswers).containsAll(List.of(1L, 2L, 3L, 4L));
+        assertThat(allQuestionIdsFromAnswers.toArray()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
     }
 
     @Test
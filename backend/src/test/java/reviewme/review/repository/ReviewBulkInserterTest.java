@@ -0,0 +1,63 @@
+package reviewme.review.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static reviewme.fixture.ReviewGroupFixture.리뷰_그룹;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import reviewme.review.domain.IdSequence;
+import reviewme.review.domain.Review;
+import reviewme.review.domain.TextAnswer;
+import reviewme.reviewgroup.domain.ReviewGroup;
+import reviewme.reviewgroup.repository.ReviewGroupRepository;
+import reviewme.support.ServiceTest;
+
+@ServiceTest
+class ReviewBulkInserterTest {
+
+    @Autowired
+    private ReviewBulkInserter reviewBulkInserter;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private TextAnswerRepository textAnswerRepository;
+
+    @Autowired
+    private ReviewGroupRepository reviewGroupRepository;
+
+    @Test
+    void 엔티티_저장과_JDBC_저장이_블록_경계를_넘나들어도_아이디가_겹치지_않는다() {
+        // given
+        ReviewGroup reviewGroup = reviewGroupRepository.save(리뷰_그룹());
+        List<Long> reviewIds = new ArrayList<>();
+
+        // when - 엔티티가 새 블록을 받은 직후 JDBC 가 다음 블록을 받고, 엔티티는 받아 둔 블록을 끝까지 쓴다.
+        saveByEntity(reviewGroup, reviewIds);
+        reviewIds.addAll(reviewBulkInserter.insertAll(List.of(리뷰(reviewGroup), 리뷰(reviewGroup))));
+        saveByEntity(reviewGroup, reviewIds);
+
+        // then
+        int savedCount = (IdSequence.ALLOCATION_SIZE + 1) * 2 + 2;
+        assertAll(
+                () -> assertThat(reviewIds).doesNotHaveDuplicates().hasSize(savedCount),
+                () -> assertThat(reviewRepository.count()).isEqualTo(savedCount),
+                () -> assertThat(textAnswerRepository.count()).isEqualTo(savedCount)
+        );
+    }
+
+    // 블록 크기보다 하나 더 저장해 엔티티 쪽이 반드시 새 블록을 받게 한다.
+    private void saveByEntity(ReviewGroup reviewGroup, List<Long> reviewIds) {
+        IntStream.rangeClosed(0, IdSequence.ALLOCATION_SIZE)
+                .forEach(i -> reviewIds.add(reviewRepository.save(리뷰(reviewGroup)).getId()));
+    }
+
+    private Review 리뷰(ReviewGroup reviewGroup) {
+        return new Review(1L, reviewGroup.getId(), List.of(new TextAnswer(1L, "텍스트형 응답")), List.of());
+    }
+}
@@ -11,9 +11,11 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import reviewme.question.domain.Question;
 import reviewme.question.repository.QuestionRepository;
 import reviewme.review.domain.Review;
+import reviewme.review.repository.projection.ReviewListItem;
 import reviewme.reviewgroup.domain.ReviewGroup;
 import reviewme.reviewgroup.repository.ReviewGroupRepository;
 import reviewme.template.domain.Section;
@@ -59,4 +61,34 @@ class ReviewRepositoryTest {
         // then
         assertThat(actual).containsExactly(review2, review1);
     }
+
+    @Test
+    void 리뷰_그룹의_리뷰를_마지막으로_조회한_리뷰_이후부터_개수만큼_불러온다() {
+        // given
+        Question question = questionRepository.save(서술형_필수_질문());
+        Section section = sectionRepository.save(항상_보이는_섹션(List.of(question.getId())));
+        Template template = templateRepository.save(템플릿(List.of(section.getId())));
+
+        ReviewGroup reviewGroup = reviewGroupRepository.save(리뷰_그룹());
+        ReviewGroup otherReviewGroup = reviewGroupRepository.save(리뷰_그룹("otherRequestCode", "otherAccessCode"));
+
+        Review review1 = reviewRepository.save(new Review(template.getId(), reviewGroup.getId(), null, null));
+        Review review2 = reviewRepository.save(new Review(template.getId(), reviewGroup.getId(), null, null));
+        reviewRepository.save(new Review(template.getId(), otherReviewGroup.getId(), null, null));
+        Review review3 = reviewRepository.save(new Review(template.getId(), reviewGroup.getId(), null, null));
+
+        // when
+        List<ReviewListItem> firstPage = reviewRepository.findListItemsByGroupId(
+                reviewGroup.getId(), PageRequest.of(0, 2));
+        List<ReviewListItem> secondPage = reviewRepository.findListItemsByGroupIdBeforeLastReviewId(
+                reviewGroup.getId(), review2.getId(), PageRequest.of(0, 2));
+
+        // then
+        assertAll(
+                () -> assertThat(firstPage).extracting(ReviewListItem::reviewId)
+                        .containsExactly(review3.getId(), review2.getId()),
+                () -> assertThat(secondPage).extracting(ReviewListItem::reviewId)
+                        .containsExactly(review1.getId())
+        );
+    }
 }
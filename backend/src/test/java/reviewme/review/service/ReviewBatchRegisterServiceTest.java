@@ -0,0 +1,187 @@
+package reviewme.review.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static reviewme.fixture.OptionGroupFixture.선택지_그룹;
+import static reviewme.fixture.OptionItemFixture.선택지;
+import static reviewme.fixture.QuestionFixture.서술형_필수_질문;
+import static reviewme.fixture.QuestionFixture.선택형_필수_질문;
+import static reviewme.fixture.ReviewGroupFixture.리뷰_그룹;
+import static reviewme.fixture.SectionFixture.항상_보이는_섹션;
+import static reviewme.fixture.TemplateFixture.템플릿;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import reviewme.question.domain.OptionGroup;
+import reviewme.question.domain.OptionItem;
+import reviewme.question.domain.Question;
+import reviewme.question.repository.OptionGroupRepository;
+import reviewme.question.repository.OptionItemRepository;
+import reviewme.question.repository.QuestionRepository;
+import reviewme.review.domain.CheckBoxAnswerSelectedOption;
+import reviewme.review.domain.CheckboxAnswer;
+import reviewme.review.domain.Review;
+import reviewme.review.domain.TextAnswer;
+import reviewme.review.repository.ReviewRepository;
+import reviewme.review.service.dto.request.ReviewAnswerRequest;
+import reviewme.review.service.dto.request.ReviewBatchRegisterRequest;
+import reviewme.review.service.dto.request.ReviewRegisterRequest;
+import reviewme.review.service.dto.response.register.ReviewBatchRegisterResponse;
+import reviewme.review.service.exception.ReviewValidationException;
+import reviewme.review.service.queue.QueuedReview;
+import reviewme.reviewgroup.domain.ReviewGroup;
+import reviewme.reviewgroup.repository.ReviewGroupRepository;
+import reviewme.support.ServiceTest;
+import reviewme.template.domain.Section;
+import reviewme.template.repository.SectionRepository;
+import reviewme.template.repository.TemplateRepository;
+
+@ServiceTest
+class ReviewBatchRegisterServiceTest {
+
+    @Autowired
+    private ReviewBatchRegisterService reviewBatchRegisterService;
+
+    @Autowired
+    private ReviewRegisterService reviewRegisterService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private OptionGroupRepository optionGroupRepository;
+
+    @Autowired
+    private OptionItemRepository optionItemRepository;
+
+    @Autowired
+    private ReviewGroupRepository reviewGroupRepository;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private SectionRepository sectionRepository;
+
+    private ReviewGroup reviewGroup;
+    private Question checkQuestion;
+    private Question textQuestion;
+    private OptionItem optionItem1;
+    private OptionItem optionItem2;
+
+    @BeforeEach
+    void setUp() {
+        reviewGroup = reviewGroupRepository.save(리뷰_그룹());
+        checkQuestion = questionRepository.save(선택형_필수_질문());
+        textQuestion = questionRepository.save(서술형_필수_질문());
+        OptionGroup optionGroup = optionGroupRepository.save(선택지_그룹(checkQuestion.getId()));
+        optionItem1 = optionItemRepository.save(선택지(optionGroup.getId(), 1));
+        optionItem2 = optionItemRepository.save(선택지(optionGroup.getId(), 2));
+        Section section = sectionRepository.save(항상_보이는_섹션(List.of(checkQuestion.getId(), textQuestion.getId())));
+        templateRepository.save(템플릿(List.of(section.getId())));
+    }
+
+    @Test
+    void 여러_리뷰를_한_번에_등록한다() {
+        // given
+        ReviewRegisterRequest request1 = 리뷰_등록_요청(List.of(optionItem1.getId()), "첫 번째 답변".repeat(5));
+        ReviewRegisterRequest request2 = 리뷰_등록_요청(
+                List.of(optionItem1.getId(), optionItem2.getId()), "두 번째 답변".repeat(5)
+        );
+
+        // when
+        ReviewBatchRegisterResponse response = reviewBatchRegisterService.registerReviews(
+                new ReviewBatchRegisterRequest(List.of(request1, request2))
+        );
+
+        // then
+        List<Review> reviews = reviewRepository.findAllById(response.reviewIds());
+        Review secondReview = reviewRepository.findById(response.reviewIds().get(1)).orElseThrow();
+        assertAll(
+                () -> assertThat(response.reviewIds()).hasSize(2).doesNotHaveDuplicates(),
+                () -> assertThat(reviews).hasSize(2),
+                () -> assertThat(secondReview.getTextAnswers())
+                        .extracting(TextAnswer::getContent)
+                        .containsExactly("두 번째 답변".repeat(5)),
+                () -> assertThat(secondReview.getCheckboxAnswers())
+                        .extracting(CheckboxAnswer::getQuestionId)
+                        .containsExactly(checkQuestion.getId()),
+                () -> assertThat(secondReview.getCheckboxAnswers().get(0).getSelectedOptionIds())
+                        .extracting(CheckBoxAnswerSelectedOption::getSelectedOptionId)
+                        .containsExactlyInAnyOrder(optionItem1.getId(), optionItem2.getId()),
+                () -> assertThat(secondReview.getPreview()).isEqualTo("두 번째 답변".repeat(5))
+        );
+    }
+
+    @Test
+    void 하나라도_검증에_실패하면_어떤_리뷰도_등록하지_않는다() {
+        // given
+        ReviewRegisterRequest validRequest = 리뷰_등록_요청(List.of(optionItem1.getId()), "답변".repeat(20));
+        ReviewRegisterRequest invalidRequest = 리뷰_등록_요청(List.of(optionItem1.getId()), "짧은 답변");
+
+        // when, then
+        assertThatThrownBy(() -> reviewBatchRegisterService.registerReviews(
+                new ReviewBatchRegisterRequest(List.of(validRequest, invalidRequest))
+        )).isInstanceOf(ReviewValidationException.class);
+        assertThat(reviewRepository.count()).isZero();
+    }
+
+    @Test
+    void 단건_등록과_대량_등록은_서로_다른_아이디를_받는다() {
+        // given
+        ReviewRegisterRequest request = 리뷰_등록_요청(List.of(optionItem1.getId()), "답변".repeat(20));
+        List<Long> reviewIds = new ArrayList<>();
+
+        // when
+        reviewIds.add(reviewRegisterService.registerReview(request));
+        reviewIds.addAll(reviewBatchRegisterService.registerReviews(
+                new ReviewBatchRegisterRequest(List.of(request, request))
+        ).reviewIds());
+        reviewIds.add(reviewRegisterService.registerReview(request));
+
+        // then
+        assertAll(
+                () -> assertThat(reviewIds).hasSize(4).doesNotHaveDuplicates(),
+                () -> assertThat(reviewRepository.findAllById(reviewIds)).hasSize(4)
+        );
+    }
+
+    @Test
+    void 큐에서_꺼낸_리뷰는_미리_받은_아이디와_제출_시각으로_한_번만_저장한다() {
+        // given
+        LocalDateTime submittedAt = LocalDateTime.of(2024, 8, 1, 12, 0);
+        ReviewRegisterRequest request = 리뷰_등록_요청(List.of(optionItem1.getId()), "답변".repeat(20));
+        List<QueuedReview> queuedReviews = List.of(
+                new QueuedReview(1_000L, submittedAt, request),
+                new QueuedReview(1_001L, submittedAt, request)
+        );
+
+        // when
+        reviewBatchRegisterService.importQueuedReviews(queuedReviews);
+        reviewBatchRegisterService.importQueuedReviews(queuedReviews);
+
+        // then
+        assertAll(
+                () -> assertThat(reviewRepository.findAll())
+                        .extracting(Review::getId)
+                        .containsExactlyInAnyOrder(1_000L, 1_001L),
+                () -> assertThat(reviewRepository.findById(1_000L).orElseThrow().getCreatedAt())
+                        .isEqualTo(submittedAt)
+        );
+    }
+
+    private ReviewRegisterRequest 리뷰_등록_요청(List<Long> selectedOptionIds, String text) {
+        return new ReviewRegisterRequest(reviewGroup.getReviewRequestCode(), List.of(
+                new ReviewAnswerRequest(checkQuestion.getId(), selectedOptionIds, null),
+                new ReviewAnswerRequest(textQuestion.getId(), null, text)
+        ));
+    }
+}
@@ -2,6 +2,7 @@ package reviewme.review.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static reviewme.fixture.OptionGroupFixture.선택지_그룹;
 import static reviewme.fixture.OptionItemFixture.선택지;
@@ -27,6 +28,7 @@ import reviewme.review.domain.Review;
 import reviewme.review.domain.TextAnswer;
 import reviewme.review.service.exception.ReviewGroupNotFoundByReviewRequestCodeException;
 import reviewme.review.repository.ReviewRepository;
+import reviewme.review.service.dto.response.detail.OptionItemAnswerResponse;
 import reviewme.review.service.dto.response.detail.QuestionAnswerResponse;
 import reviewme.review.service.dto.response.detail.ReviewDetailResponse;
 import reviewme.review.service.dto.response.detail.SectionAnswerResponse;
@@ -156,6 +158,57 @@ class ReviewDetailLookupServiceTest {
         assertThat(reviewDetail.sections()).hasSize(2);
     }
 
+    @Test
+    void 섹션에는_해당_섹션의_질문과_선택한_선택지만_표시한다() {
+        // given - 리뷰 그룹 저장
+        String reviewRequestCode = "1111";
+        String groupAccessCode = "2222";
+        ReviewGroup reviewGroup = reviewGroupRepository.save(리뷰_그룹(reviewRequestCode, groupAccessCode));
+
+        // given - 질문 저장
+        Question question1 = questionRepository.save(선택형_필수_질문());
+        Question question2 = questionRepository.save(서술형_필수_질문());
+        OptionGroup optionGroup = optionGroupRepository.save(선택지_그룹(question1.getId()));
+        OptionItem optionItem1 = optionItemRepository.save(선택지(optionGroup.getId(), 1));
+        OptionItem optionItem2 = optionItemRepository.save(선택지(optionGroup.getId(), 2));
+
+        // given - 섹션, 템플릿 저장
+        Section section1 = sectionRepository.save(항상_보이는_섹션(List.of(question1.getId()), 1));
+        Section section2 = sectionRepository.save(항상_보이는_섹션(List.of(question2.getId()), 2));
+        Template template = templateRepository.save(템플릿(List.of(section1.getId(), section2.getId())));
+
+        // given - 리뷰 답변 저장
+        List<TextAnswer> textAnswers = List.of(new TextAnswer(question2.getId(), "답변".repeat(20)));
+        List<CheckboxAnswer> checkboxAnswers = List.of(
+                new CheckboxAnswer(question1.getId(), List.of(optionItem1.getId()))
+        );
+        Review review = reviewRepository.save(
+                new Review(template.getId(), reviewGroup.getId(), textAnswers, checkboxAnswers)
+        );
+
+        // when
+        ReviewDetailResponse reviewDetail = reviewDetailLookupService.getReviewDetail(
+                review.getId(), reviewRequestCode, groupAccessCode
+        );
+
+        // then
+        List<SectionAnswerResponse> sections = reviewDetail.sections();
+        assertAll(
+                () -> assertThat(sections.get(0).questions())
+                        .extracting(QuestionAnswerResponse::questionId)
+                        .containsExactly(question1.getId()),
+                () -> assertThat(sections.get(0).questions().get(0).optionGroup().options())
+                        .extracting(OptionItemAnswerResponse::optionId, OptionItemAnswerResponse::isChecked)
+                        .containsExactlyInAnyOrder(
+                                tuple(optionItem1.getId(), true),
+                                tuple(optionItem2.getId(), false)
+                        ),
+                () -> assertThat(sections.get(1).questions())
+                        .extracting(QuestionAnswerResponse::questionId)
+                        .containsExactly(question2.getId())
+        );
+    }
+
     @Nested
     class 필수가_아닌_답변에_응답하지_않았을_때 {
 
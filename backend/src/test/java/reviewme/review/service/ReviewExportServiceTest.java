@@ -0,0 +1,167 @@
+package reviewme.review.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static reviewme.fixture.OptionGroupFixture.선택지_그룹;
+import static reviewme.fixture.QuestionFixture.서술형_필수_질문;
+import static reviewme.fixture.QuestionFixture.선택형_필수_질문;
+import static reviewme.fixture.ReviewGroupFixture.리뷰_그룹;
+import static reviewme.fixture.SectionFixture.항상_보이는_섹션;
+import static reviewme.fixture.TemplateFixture.템플릿;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import reviewme.question.domain.OptionGroup;
+import reviewme.question.domain.OptionItem;
+import reviewme.question.domain.OptionType;
+import reviewme.question.domain.Question;
+import reviewme.question.repository.OptionGroupRepository;
+import reviewme.question.repository.OptionItemRepository;
+import reviewme.question.repository.QuestionRepository;
+import reviewme.review.service.dto.request.ReviewAnswerRequest;
+import reviewme.review.service.dto.request.ReviewRegisterRequest;
+import reviewme.review.service.exception.ReviewGroupUnauthorizedException;
+import reviewme.review.service.export.ReviewExportFormat;
+import reviewme.reviewgroup.domain.ReviewGroup;
+import reviewme.reviewgroup.repository.ReviewGroupRepository;
+import reviewme.reviewgroup.service.dto.GroupAccessCredential;
+import reviewme.support.ServiceTest;
+import reviewme.template.domain.Section;
+import reviewme.template.repository.SectionRepository;
+import reviewme.template.repository.TemplateRepository;
+
+@ServiceTest
+class ReviewExportServiceTest {
+
+    @Autowired
+    private ReviewExportService reviewExportService;
+
+    @Autowired
+    private ReviewRegisterService reviewRegisterService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private OptionGroupRepository optionGroupRepository;
+
+    @Autowired
+    private OptionItemRepository optionItemRepository;
+
+    @Autowired
+    private ReviewGroupRepository reviewGroupRepository;
+
+    @Autowired
+    private SectionRepository sectionRepository;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ReviewGroup reviewGroup;
+    private Question checkQuestion;
+    private Question textQuestion;
+    private OptionItem optionItem1;
+    private OptionItem optionItem2;
+
+    @BeforeEach
+    void setUp() {
+        reviewGroup = reviewGroupRepository.save(리뷰_그룹());
+        checkQuestion = questionRepository.save(선택형_필수_질문(1));
+        textQuestion = questionRepository.save(서술형_필수_질문(2));
+        OptionGroup optionGroup = optionGroupRepository.save(선택지_그룹(checkQuestion.getId()));
+        optionItem1 = optionItemRepository.save(new OptionItem("협업", optionGroup.getId(), 1, OptionType.CATEGORY));
+        optionItem2 = optionItemRepository.save(new OptionItem("문제 해결", optionGroup.getId(), 2, OptionType.CATEGORY));
+        Section section = sectionRepository.save(항상_보이는_섹션(List.of(checkQuestion.getId(), textQuestion.getId())));
+        templateRepository.save(템플릿(List.of(section.getId())));
+    }
+
+    @Test
+    void 리뷰를_한_줄에_하나씩_JSON_으로_내보낸다() throws Exception {
+        // given
+        long firstReviewId = reviewRegisterService.registerReview(
+                리뷰_등록_요청(List.of(optionItem1.getId(), optionItem2.getId()), "첫 번째 답변".repeat(5))
+        );
+        long secondReviewId = reviewRegisterService.registerReview(
+                리뷰_등록_요청(List.of(optionItem2.getId()), "두 번째 답변".repeat(5))
+        );
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        reviewExportService.export(reviewGroup.getReviewRequestCode(), ReviewExportFormat.NDJSON, outputStream);
+
+        // then
+        String[] lines = outputStream.toString(UTF_8).split("\n");
+        JsonNode firstReview = objectMapper.readTree(lines[0]);
+        JsonNode secondReview = objectMapper.readTree(lines[1]);
+        assertAll(
+                () -> assertThat(lines).hasSize(2),
+                () -> assertThat(firstReview.get("reviewId").asLong()).isEqualTo(firstReviewId),
+                () -> assertThat(firstReview.at("/answers/0/questionId").asLong()).isEqualTo(checkQuestion.getId()),
+                () -> assertThat(firstReview.at("/answers/0/selectedOptions"))
+                        .extracting(JsonNode::asText)
+                        .containsExactly("협업", "문제 해결"),
+                () -> assertThat(firstReview.at("/answers/1/text").asText()).isEqualTo("첫 번째 답변".repeat(5)),
+                () -> assertThat(secondReview.get("reviewId").asLong()).isEqualTo(secondReviewId)
+        );
+    }
+
+    @Test
+    void 리뷰를_답변_하나당_한_행씩_CSV_로_내보낸다() throws Exception {
+        // given
+        long reviewId = reviewRegisterService.registerReview(
+                리뷰_등록_요청(List.of(optionItem1.getId(), optionItem2.getId()), "답변, \"인용\"".repeat(5))
+        );
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        reviewExportService.export(reviewGroup.getReviewRequestCode(), ReviewExportFormat.CSV, outputStream);
+
+        // then
+        String[] rows = outputStream.toString(UTF_8).split("\r\n");
+        assertAll(
+                () -> assertThat(rows).hasSize(3),
+                () -> assertThat(rows[0])
+                        .endsWith("\"review_id\",\"created_at\",\"question_id\",\"question\",\"answer\""),
+                () -> assertThat(rows[1]).startsWith("\"" + reviewId + "\"")
+                        .endsWith("\"협업, 문제 해결\""),
+                () -> assertThat(rows[2]).endsWith("\"" + "답변, \"\"인용\"\"".repeat(5) + "\"")
+        );
+    }
+
+    @Test
+    void 리뷰가_없으면_CSV_헤더만_내보낸다() throws Exception {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        reviewExportService.export(reviewGroup.getReviewRequestCode(), ReviewExportFormat.CSV, outputStream);
+
+        // then
+        assertThat(outputStream.toString(UTF_8).split("\r\n")).hasSize(1);
+    }
+
+    @Test
+    void 접근_코드가_일치하지_않으면_내보낼_수_없다() {
+        // given, when, then
+        assertThatThrownBy(() -> reviewExportService.authorizeExport(
+                reviewGroup.getReviewRequestCode(), GroupAccessCredential.ofGroupAccessCode("wrongCode")
+        )).isInstanceOf(ReviewGroupUnauthorizedException.class);
+    }
+
+    private ReviewRegisterRequest 리뷰_등록_요청(List<Long> selectedOptionIds, String text) {
+        return new ReviewRegisterRequest(reviewGroup.getReviewRequestCode(), List.of(
+                new ReviewAnswerRequest(checkQuestion.getId(), selectedOptionIds, null),
+                new ReviewAnswerRequest(textQuestion.getId(), null, text)
+        ));
+    }
+}
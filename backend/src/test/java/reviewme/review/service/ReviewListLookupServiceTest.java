@@ -2,18 +2,22 @@ package reviewme.review.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static reviewme.fixture.OptionGroupFixture.선택지_그룹;
 import static reviewme.fixture.OptionItemFixture.선택지;
+import static reviewme.fixture.QuestionFixture.서술형_필수_질문;
 import static reviewme.fixture.QuestionFixture.선택형_필수_질문;
 import static reviewme.fixture.ReviewGroupFixture.리뷰_그룹;
 import static reviewme.fixture.SectionFixture.항상_보이는_섹션;
 import static reviewme.fixture.TemplateFixture.템플릿;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import reviewme.question.domain.OptionGroup;
 import reviewme.question.domain.OptionItem;
+import reviewme.question.domain.OptionType;
 import reviewme.question.domain.Question;
 import reviewme.question.repository.OptionGroupRepository;
 import reviewme.question.repository.OptionItemRepository;
@@ -23,10 +27,18 @@ import reviewme.review.domain.Review;
 import reviewme.review.domain.TextAnswer;
 import reviewme.review.service.exception.ReviewGroupNotFoundByReviewRequestCodeException;
 import reviewme.review.repository.ReviewRepository;
+import reviewme.review.service.dto.request.ReviewAnswerRequest;
+import reviewme.review.service.dto.request.ReviewRegisterRequest;
 import reviewme.review.service.dto.response.list.ReceivedReviewsResponse;
+import reviewme.review.service.dto.response.list.ReviewCategoryResponse;
+import reviewme.review.service.dto.response.list.ReviewListElementResponse;
 import reviewme.review.service.exception.ReviewGroupUnauthorizedException;
 import reviewme.reviewgroup.domain.ReviewGroup;
 import reviewme.reviewgroup.repository.ReviewGroupRepository;
+import reviewme.reviewgroup.service.ReviewGroupService;
+import reviewme.reviewgroup.service.dto.GroupAccessCredential;
+import reviewme.reviewgroup.service.dto.ReviewGroupCreationRequest;
+import reviewme.reviewgroup.service.token.GroupAccessTokenProvider;
 import reviewme.support.ServiceTest;
 import reviewme.template.domain.Section;
 import reviewme.template.domain.Template;
@@ -60,9 +72,18 @@ class ReviewListLookupServiceTest {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private GroupAccessTokenProvider groupAccessTokenProvider;
+
+    @Autowired
+    private ReviewGroupService reviewGroupService;
+
+    @Autowired
+    private ReviewRegisterService reviewRegisterService;
+
     @Test
     void 리뷰_요청_코드가_존재하지_않는_경우_예외가_발생한다() {
-        assertThatThrownBy(() -> reviewListLookupService.getReceivedReviews("abc", "groupAccessCode"))
+        assertThatThrownBy(() -> reviewListLookupService.getReceivedReviews("abc", "groupAccessCode", null, null))
                 .isInstanceOf(ReviewGroupNotFoundByReviewRequestCodeException.class);
     }
 
@@ -75,10 +96,68 @@ class ReviewListLookupServiceTest {
 
         // when, then
         assertThatThrownBy(() -> reviewListLookupService.getReceivedReviews(
-                reviewRequestCode, "wrong" + groupAccessCode))
+                reviewRequestCode, "wrong" + groupAccessCode, null, null))
                 .isInstanceOf(ReviewGroupUnauthorizedException.class);
     }
 
+    @Test
+    void 발급받은_토큰이_있으면_그룹_액세스_코드_없이_리뷰_목록을_반환한다() {
+        // given
+        String reviewRequestCode = "reviewRequestCode";
+        ReviewGroup reviewGroup = reviewGroupRepository.save(리뷰_그룹(reviewRequestCode, "groupAccessCode"));
+        String groupAccessToken = groupAccessTokenProvider.issue(reviewGroup.getId());
+
+        // when
+        ReceivedReviewsResponse response = reviewListLookupService.getReceivedReviews(
+                reviewRequestCode, GroupAccessCredential.ofGroupAccessToken(groupAccessToken), null, null);
+
+        // then
+        assertThat(response.reviews()).isEmpty();
+    }
+
+    @Test
+    void 다른_그룹에_발급된_토큰으로는_리뷰_목록을_조회할_수_없다() {
+        // given
+        String reviewRequestCode = "Jamsil";
+        reviewGroupRepository.save(리뷰_그룹(reviewRequestCode, "Seolleung"));
+        ReviewGroup otherReviewGroup = reviewGroupRepository.save(리뷰_그룹("Gangnam", "Yeoksam"));
+        String groupAccessToken = groupAccessTokenProvider.issue(otherReviewGroup.getId());
+
+        // when, then
+        assertThatThrownBy(() -> reviewListLookupService.getReceivedReviews(
+                reviewRequestCode, GroupAccessCredential.ofGroupAccessToken(groupAccessToken), null, null))
+                .isInstanceOf(ReviewGroupUnauthorizedException.class);
+    }
+
+    @Test
+    void 새_리뷰가_등록되면_리뷰_목록의_ETag_가_달라진다() {
+        // given
+        String groupAccessCode = "groupAccessCode";
+        Question question = questionRepository.save(서술형_필수_질문());
+        Section section = sectionRepository.save(항상_보이는_섹션(List.of(question.getId())));
+        templateRepository.save(템플릿(List.of(section.getId())));
+        String reviewRequestCode = reviewGroupService.createReviewGroup(
+                new ReviewGroupCreationRequest("리뷰이", "프로젝트", groupAccessCode)
+        ).reviewRequestCode();
+        GroupAccessCredential credential = GroupAccessCredential.ofGroupAccessCode(groupAccessCode);
+        ReviewRegisterRequest request = new ReviewRegisterRequest(reviewRequestCode, List.of(
+                new ReviewAnswerRequest(question.getId(), null, "텍스트형 응답".repeat(5))
+        ));
+        reviewRegisterService.registerReview(request);
+
+        // when
+        String before = reviewListLookupService.getReceivedReviewsETag(reviewRequestCode, credential);
+        String unchanged = reviewListLookupService.getReceivedReviewsETag(reviewRequestCode, credential);
+        reviewRegisterService.registerReview(request);
+        String after = reviewListLookupService.getReceivedReviewsETag(reviewRequestCode, credential);
+
+        // then
+        assertAll(
+                () -> assertThat(unchanged).isEqualTo(before),
+                () -> assertThat(after).isNotEqualTo(before)
+        );
+    }
+
     @Test
     void 확인_코드에_해당하는_그룹이_존재하면_내가_받은_리뷰_목록을_반환한다() {
         // given - 리뷰 그룹 저장
@@ -104,9 +183,107 @@ class ReviewListLookupServiceTest {
 
         // when
         ReceivedReviewsResponse response = reviewListLookupService.getReceivedReviews(reviewRequestCode,
-                groupAccessCode);
+                groupAccessCode, null, null);
 
         // then
         assertThat(response.reviews()).hasSize(2);
     }
+
+    @Test
+    void 마지막으로_받은_리뷰_이후의_리뷰를_페이지_크기만큼_반환한다() {
+        // given
+        String reviewRequestCode = "reviewRequestCode";
+        String groupAccessCode = "groupAccessCode";
+        ReviewGroup reviewGroup = reviewGroupRepository.save(리뷰_그룹(reviewRequestCode, groupAccessCode));
+        Question question = questionRepository.save(선택형_필수_질문());
+        Section section = sectionRepository.save(항상_보이는_섹션(List.of(question.getId())));
+        Template template = templateRepository.save(템플릿(List.of(section.getId())));
+
+        List<Review> reviews = reviewRepository.saveAll(List.of(
+                new Review(template.getId(), reviewGroup.getId(), List.of(), List.of()),
+                new Review(template.getId(), reviewGroup.getId(), List.of(), List.of()),
+                new Review(template.getId(), reviewGroup.getId(), List.of(), List.of())
+        ));
+
+        // when
+        ReceivedReviewsResponse firstPage = reviewListLookupService.getReceivedReviews(
+                reviewRequestCode, groupAccessCode, null, 2);
+        ReceivedReviewsResponse secondPage = reviewListLookupService.getReceivedReviews(
+                reviewRequestCode, groupAccessCode, firstPage.lastReviewId(), 2);
+
+        // then
+        assertAll(
+                () -> assertThat(firstPage.reviews()).extracting(ReviewListElementResponse::reviewId)
+                        .containsExactly(reviews.get(2).getId(), reviews.get(1).getId()),
+                () -> assertThat(firstPage.isLastPage()).isFalse(),
+                () -> assertThat(secondPage.reviews()).extracting(ReviewListElementResponse::reviewId)
+                        .containsExactly(reviews.get(0).getId()),
+                () -> assertThat(secondPage.isLastPage()).isTrue()
+        );
+    }
+
+    @Test
+    void 커서와_페이지_크기를_모두_보내지_않으면_리뷰를_모두_반환한다() {
+        // given
+        String reviewRequestCode = "reviewRequestCode";
+        String groupAccessCode = "groupAccessCode";
+        ReviewGroup reviewGroup = reviewGroupRepository.save(리뷰_그룹(reviewRequestCode, groupAccessCode));
+        Question question = questionRepository.save(선택형_필수_질문());
+        Section section = sectionRepository.save(항상_보이는_섹션(List.of(question.getId())));
+        Template template = templateRepository.save(템플릿(List.of(section.getId())));
+
+        List<Review> reviews = IntStream.range(0, 12)
+                .mapToObj(i -> new Review(template.getId(), reviewGroup.getId(), List.of(), List.of()))
+                .toList();
+        reviewRepository.saveAll(reviews);
+
+        // when
+        ReceivedReviewsResponse response = reviewListLookupService.getReceivedReviews(
+                reviewRequestCode, groupAccessCode, null, null);
+
+        // then
+        assertAll(
+                () -> assertThat(response.reviews()).hasSize(12),
+                () -> assertThat(response.isLastPage()).isTrue()
+        );
+    }
+
+    @Test
+    void 리뷰_목록에는_첫_서술형_답변의_미리보기와_선택한_카테고리만_담는다() {
+        // given
+        String reviewRequestCode = "reviewRequestCode";
+        String groupAccessCode = "groupAccessCode";
+        ReviewGroup reviewGroup = reviewGroupRepository.save(리뷰_그룹(reviewRequestCode, groupAccessCode));
+
+        Question checkQuestion = questionRepository.save(선택형_필수_질문());
+        OptionGroup optionGroup = optionGroupRepository.save(선택지_그룹(checkQuestion.getId()));
+        OptionItem categoryOption = optionItemRepository.save(
+                new OptionItem("카테고리", optionGroup.getId(), 1, OptionType.CATEGORY));
+        OptionItem keywordOption = optionItemRepository.save(
+                new OptionItem("키워드", optionGroup.getId(), 2, OptionType.KEYWORD));
+        Question textQuestion1 = questionRepository.save(서술형_필수_질문());
+        Question textQuestion2 = questionRepository.save(서술형_필수_질문());
+        Section section = sectionRepository.save(항상_보이는_섹션(
+                List.of(checkQuestion.getId(), textQuestion1.getId(), textQuestion2.getId())));
+        Template template = templateRepository.save(템플릿(List.of(section.getId())));
+
+        CheckboxAnswer checkboxAnswer = new CheckboxAnswer(
+                checkQuestion.getId(), List.of(categoryOption.getId(), keywordOption.getId()));
+        TextAnswer firstTextAnswer = new TextAnswer(textQuestion1.getId(), "가".repeat(200));
+        TextAnswer secondTextAnswer = new TextAnswer(textQuestion2.getId(), "두 번째 답변");
+        reviewRepository.save(new Review(template.getId(), reviewGroup.getId(),
+                List.of(firstTextAnswer, secondTextAnswer), List.of(checkboxAnswer)));
+
+        // when
+        ReceivedReviewsResponse response = reviewListLookupService.getReceivedReviews(
+                reviewRequestCode, groupAccessCode, null, null);
+
+        // then
+        ReviewListElementResponse review = response.reviews().get(0);
+        assertAll(
+                () -> assertThat(review.contentPreview()).isEqualTo("가".repeat(150) + "..."),
+                () -> assertThat(review.categories()).containsExactly(
+                        new ReviewCategoryResponse(categoryOption.getId(), "카테고리"))
+        );
+    }
 }
@@ -102,7 +102,10 @@ class ReviewRegisterServiceTest {
                 () -> assertThat(review.getTextAnswers()).extracting(TextAnswer::getQuestionId)
                         .containsExactly(requiredTextQuestion.getId()),
                 () -> assertThat(review.getCheckboxAnswers()).extracting(CheckboxAnswer::getQuestionId)
-                        .containsAll(List.of(requiredCheckQuestion.getId(), conditionalCheckQuestion.getId()))
+                        .containsAll(List.of(requiredCheckQuestion.getId(), conditionalCheckQuestion.getId())),
+                () -> assertThat(review.getPreview()).isEqualTo("답변".repeat(30)),
+                () -> assertThat(review.getCategoryOptionIds())
+                        .containsExactly(requiredOptionItem1.getId(), conditionalOptionItem1.getId())
         );
     }
 }
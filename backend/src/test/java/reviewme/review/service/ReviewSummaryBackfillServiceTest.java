@@ -0,0 +1,90 @@
+package reviewme.review.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static reviewme.fixture.OptionGroupFixture.선택지_그룹;
+import static reviewme.fixture.OptionItemFixture.선택지;
+import static reviewme.fixture.QuestionFixture.서술형_필수_질문;
+import static reviewme.fixture.QuestionFixture.선택형_필수_질문;
+import static reviewme.fixture.ReviewGroupFixture.리뷰_그룹;
+import static reviewme.fixture.SectionFixture.항상_보이는_섹션;
+import static reviewme.fixture.TemplateFixture.템플릿;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import reviewme.question.domain.OptionGroup;
+import reviewme.question.domain.OptionItem;
+import reviewme.question.domain.Question;
+import reviewme.question.repository.OptionGroupRepository;
+import reviewme.question.repository.OptionItemRepository;
+import reviewme.question.repository.QuestionRepository;
+import reviewme.review.domain.CheckboxAnswer;
+import reviewme.review.domain.Review;
+import reviewme.review.domain.TextAnswer;
+import reviewme.review.repository.ReviewRepository;
+import reviewme.reviewgroup.domain.ReviewGroup;
+import reviewme.reviewgroup.repository.ReviewGroupRepository;
+import reviewme.support.ServiceTest;
+import reviewme.template.domain.Section;
+import reviewme.template.domain.Template;
+import reviewme.template.repository.SectionRepository;
+import reviewme.template.repository.TemplateRepository;
+
+@ServiceTest
+class ReviewSummaryBackfillServiceTest {
+
+    @Autowired
+    private ReviewSummaryBackfillService reviewSummaryBackfillService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private OptionGroupRepository optionGroupRepository;
+
+    @Autowired
+    private OptionItemRepository optionItemRepository;
+
+    @Autowired
+    private ReviewGroupRepository reviewGroupRepository;
+
+    @Autowired
+    private SectionRepository sectionRepository;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Test
+    void 요약이_없는_리뷰에_미리보기와_카테고리를_채운다() {
+        // given
+        ReviewGroup reviewGroup = reviewGroupRepository.save(리뷰_그룹());
+        Question textQuestion = questionRepository.save(서술형_필수_질문());
+        Question checkQuestion = questionRepository.save(선택형_필수_질문());
+        OptionGroup optionGroup = optionGroupRepository.save(선택지_그룹(checkQuestion.getId()));
+        OptionItem categoryOption = optionItemRepository.save(선택지(optionGroup.getId()));
+        Section section = sectionRepository.save(
+                항상_보이는_섹션(List.of(textQuestion.getId(), checkQuestion.getId())));
+        Template template = templateRepository.save(템플릿(List.of(section.getId())));
+
+        Review review = reviewRepository.save(new Review(template.getId(), reviewGroup.getId(),
+                List.of(new TextAnswer(textQuestion.getId(), "답변")),
+                List.of(new CheckboxAnswer(checkQuestion.getId(), List.of(categoryOption.getId())))));
+
+        // when
+        long lastReviewId = reviewSummaryBackfillService.backfill(0L, 10);
+
+        // then
+        Review summarizedReview = reviewRepository.findById(review.getId()).orElseThrow();
+        assertAll(
+                () -> assertThat(lastReviewId).isEqualTo(review.getId()),
+                () -> assertThat(summarizedReview.getPreview()).isEqualTo("답변"),
+                () -> assertThat(summarizedReview.getCategoryOptionIds()).containsExactly(categoryOption.getId()),
+                () -> assertThat(reviewSummaryBackfillService.backfill(lastReviewId, 10))
+                        .isEqualTo(ReviewSummaryBackfillService.NO_MORE_REVIEWS)
+        );
+    }
+}
@@ -0,0 +1,106 @@
+package reviewme.review.service.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reviewme.config.properties.ReviewWriteBehindProperties;
+import reviewme.review.service.dto.request.ReviewAnswerRequest;
+import reviewme.review.service.dto.request.ReviewRegisterRequest;
+
+class ReviewSubmissionQueueTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    private Path directory;
+
+    private ReviewWriteBehindProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReviewWriteBehindProperties(
+                true, directory.resolve("reviews.queue"), 10, Duration.ofMillis(100), Duration.ofSeconds(1)
+        );
+    }
+
+    @Test
+    void 기록한_순서대로_읽고_확정하기_전까지는_같은_리뷰를_다시_읽는다() throws IOException {
+        // given
+        ReviewSubmissionQueue queue = new ReviewSubmissionQueue(properties, objectMapper);
+        queue.append(큐에_넣을_리뷰(1L));
+        queue.append(큐에_넣을_리뷰(2L));
+        queue.append(큐에_넣을_리뷰(3L));
+
+        // when
+        QueueBatch first = queue.readPending(2);
+        QueueBatch retried = queue.readPending(2);
+        queue.acknowledge(first.endOffset());
+        QueueBatch second = queue.readPending(2);
+        queue.close();
+
+        // then
+        assertAll(
+                () -> assertThat(first.reviews()).extracting(QueuedReview::reviewId).containsExactly(1L, 2L),
+                () -> assertThat(retried.reviews()).extracting(QueuedReview::reviewId).containsExactly(1L, 2L),
+                () -> assertThat(second.reviews()).extracting(QueuedReview::reviewId).containsExactly(3L),
+                () -> assertThat(second.reviews().get(0)).isEqualTo(큐에_넣을_리뷰(3L))
+        );
+    }
+
+    @Test
+    void 모두_확정하면_파일을_비운다() throws IOException {
+        // given
+        ReviewSubmissionQueue queue = new ReviewSubmissionQueue(properties, objectMapper);
+        queue.append(큐에_넣을_리뷰(1L));
+
+        // when
+        queue.acknowledge(queue.readPending(10).endOffset());
+        queue.close();
+
+        // then
+        assertAll(
+                () -> assertThat(Files.size(properties.queueFile())).isZero(),
+                () -> assertThat(queue.readPending(10).isEmpty()).isTrue()
+        );
+    }
+
+    @Test
+    void 다시_열면_확정한_위치부터_읽고_마지막의_불완전한_줄은_버린다() throws IOException {
+        // given
+        ReviewSubmissionQueue queue = new ReviewSubmissionQueue(properties, objectMapper);
+        queue.append(큐에_넣을_리뷰(1L));
+        queue.append(큐에_넣을_리뷰(2L));
+        queue.acknowledge(queue.readPending(1).endOffset());
+        queue.close();
+        Files.write(properties.queueFile(), "{\"reviewId\":3".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        // when
+        ReviewSubmissionQueue reopened = new ReviewSubmissionQueue(properties, objectMapper);
+        QueueBatch batch = reopened.readPending(10);
+        reopened.close();
+
+        // then
+        assertThat(batch.reviews()).extracting(QueuedReview::reviewId).containsExactly(2L);
+    }
+
+    private QueuedReview 큐에_넣을_리뷰(long reviewId) {
+        ReviewRegisterRequest request = new ReviewRegisterRequest("reviewRequestCode", List.of(
+                new ReviewAnswerRequest(1L, null, "줄바꿈이\n들어간 답변"),
+                new ReviewAnswerRequest(2L, List.of(3L, 4L), null)
+        ));
+        return new QueuedReview(reviewId, LocalDateTime.of(2024, 8, 1, 12, 0), request);
+    }
+}
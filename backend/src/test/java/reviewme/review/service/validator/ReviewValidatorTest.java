@@ -1,5 +1,6 @@
 package reviewme.review.service.validator;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static reviewme.fixture.OptionGroupFixture.선택지_그룹;
@@ -25,7 +26,10 @@ import reviewme.question.repository.QuestionRepository;
 import reviewme.review.domain.CheckboxAnswer;
 import reviewme.review.domain.Review;
 import reviewme.review.domain.TextAnswer;
+import reviewme.review.service.exception.InvalidTextAnswerLengthException;
 import reviewme.review.service.exception.MissingRequiredQuestionException;
+import reviewme.review.service.exception.ReviewValidationException;
+import reviewme.review.service.exception.SelectedOptionItemCountOutOfRangeException;
 import reviewme.review.service.exception.SubmittedQuestionAndProvidedQuestionMismatchException;
 import reviewme.reviewgroup.domain.ReviewGroup;
 import reviewme.reviewgroup.repository.ReviewGroupRepository;
@@ -130,7 +134,10 @@ class ReviewValidatorTest {
 
         // when, then
         assertThatThrownBy(() -> reviewValidator.validate(review))
-                .isInstanceOf(SubmittedQuestionAndProvidedQuestionMismatchException.class);
+                .isInstanceOfSatisfying(ReviewValidationException.class, exception ->
+                        assertThat(exception.getViolations()).hasAtLeastOneElementOfType(
+                                SubmittedQuestionAndProvidedQuestionMismatchException.class
+                        ));
     }
 
     @Test
@@ -149,6 +156,40 @@ class ReviewValidatorTest {
 
         // when, then
         assertThatThrownBy(() -> reviewValidator.validate(review))
-                .isInstanceOf(MissingRequiredQuestionException.class);
+                .isInstanceOfSatisfying(ReviewValidationException.class, exception ->
+                        assertThat(exception.getViolations()).hasAtLeastOneElementOfType(
+                                MissingRequiredQuestionException.class
+                        ));
+    }
+
+    @Test
+    void 여러_답변이_유효하지_않은_경우_모든_위반_사항을_한_번에_알려준다() {
+        // given
+        ReviewGroup reviewGroup = reviewGroupRepository.save(리뷰_그룹());
+
+        Question requiredTextQuestion = questionRepository.save(서술형_필수_질문());
+        Question missingTextQuestion = questionRepository.save(서술형_필수_질문());
+        Question checkQuestion = questionRepository.save(선택형_필수_질문());
+        OptionGroup optionGroup = optionGroupRepository.save(new OptionGroup(checkQuestion.getId(), 1, 1));
+        OptionItem optionItem1 = optionItemRepository.save(선택지(optionGroup.getId(), 1));
+        OptionItem optionItem2 = optionItemRepository.save(선택지(optionGroup.getId(), 2));
+        Section section = sectionRepository.save(항상_보이는_섹션(
+                List.of(requiredTextQuestion.getId(), missingTextQuestion.getId(), checkQuestion.getId())));
+        Template template = templateRepository.save(템플릿(List.of(section.getId())));
+
+        TextAnswer shortTextAnswer = new TextAnswer(requiredTextQuestion.getId(), "답변");
+        CheckboxAnswer tooManyCheckAnswer = new CheckboxAnswer(checkQuestion.getId(),
+                List.of(optionItem1.getId(), optionItem2.getId()));
+        Review review = new Review(template.getId(), reviewGroup.getId(),
+                List.of(shortTextAnswer), List.of(tooManyCheckAnswer));
+
+        // when, then
+        assertThatThrownBy(() -> reviewValidator.validate(review))
+                .isInstanceOfSatisfying(ReviewValidationException.class, exception ->
+                        assertThat(exception.getViolations()).hasExactlyElementsOfTypes(
+                                InvalidTextAnswerLengthException.class,
+                                SelectedOptionItemCountOutOfRangeException.class,
+                                MissingRequiredQuestionException.class
+                        ));
     }
 }
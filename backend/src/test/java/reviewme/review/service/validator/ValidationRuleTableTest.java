@@ -0,0 +1,77 @@
+package reviewme.review.service.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import reviewme.question.domain.OptionType;
+import reviewme.question.domain.QuestionType;
+import reviewme.template.domain.VisibleType;
+import reviewme.template.service.cache.OptionGroupNode;
+import reviewme.template.service.cache.OptionItemNode;
+import reviewme.template.service.cache.PlaceholderText;
+import reviewme.template.service.cache.QuestionNode;
+import reviewme.template.service.cache.SectionNode;
+import reviewme.template.service.cache.TemplateGraph;
+import reviewme.util.collection.LongHashSet;
+
+class ValidationRuleTableTest {
+
+    @Test
+    void 선택형_질문의_규칙은_선택지_그룹에_속한_선택지만_허용한다() {
+        // given
+        OptionGroupNode optionGroup = new OptionGroupNode(1L, 1, 2, List.of(선택지(100L), 선택지(102L)));
+        QuestionNode question = 질문(1L, QuestionType.CHECKBOX, true, optionGroup);
+        ValidationRuleTable ruleTable = ValidationRuleTable.compile(
+                new TemplateGraph(1L, List.of(섹션(1L, VisibleType.ALWAYS, null, question)))
+        );
+
+        // when
+        QuestionRule rule = ruleTable.findQuestionRule(question.id()).orElseThrow();
+
+        // then
+        assertThat(List.of(99L, 100L, 101L, 102L, 103L))
+                .filteredOn(rule::isAllowedOptionId)
+                .containsExactly(100L, 102L);
+        assertThat(rule.getAllowedOptionIds()).containsExactly(100L, 102L);
+    }
+
+    @Test
+    void 선택한_선택지로_보이는_섹션의_필수_질문_중_답하지_않은_질문을_찾는다() {
+        // given
+        QuestionNode alwaysRequired = 질문(1L, QuestionType.TEXT, true, null);
+        QuestionNode alwaysOptional = 질문(2L, QuestionType.TEXT, false, null);
+        QuestionNode conditionalRequired = 질문(3L, QuestionType.TEXT, true, null);
+        QuestionNode hiddenRequired = 질문(4L, QuestionType.TEXT, true, null);
+        ValidationRuleTable ruleTable = ValidationRuleTable.compile(new TemplateGraph(1L, List.of(
+                섹션(1L, VisibleType.ALWAYS, null, alwaysRequired, alwaysOptional),
+                섹션(2L, VisibleType.CONDITIONAL, 10L, conditionalRequired),
+                섹션(3L, VisibleType.CONDITIONAL, 20L, hiddenRequired)
+        )));
+
+        // when
+        List<Long> missingRequiredQuestionIds = ruleTable.findMissingRequiredQuestionIds(
+                LongHashSet.of(10L), LongHashSet.of(1L)
+        );
+
+        // then
+        assertThat(missingRequiredQuestionIds).containsExactly(conditionalRequired.id());
+    }
+
+    private QuestionNode 질문(long id, QuestionType questionType, boolean required, OptionGroupNode optionGroup) {
+        return new QuestionNode(
+                id, required, questionType, PlaceholderText.compileRevieweeName("질문"), null, 1, optionGroup
+        );
+    }
+
+    private SectionNode 섹션(long id, VisibleType visibleType, Long onSelectedOptionId, QuestionNode... questions) {
+        return new SectionNode(
+                id, visibleType, onSelectedOptionId, "섹션", PlaceholderText.compileRevieweeName("머릿말"),
+                (int) id, List.of(questions)
+        );
+    }
+
+    private OptionItemNode 선택지(long id) {
+        return new OptionItemNode(id, "선택지", 1, OptionType.KEYWORD);
+    }
+}
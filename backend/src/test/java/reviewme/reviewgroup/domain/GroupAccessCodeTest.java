@@ -21,6 +21,15 @@ class GroupAccessCodeTest {
         assertThat(groupAccessCode.matches("hello")).isTrue();
     }
 
+    @Test
+    void 다른_코드와는_일치하지_않는다() {
+        // given
+        GroupAccessCode groupAccessCode = new GroupAccessCode("hello");
+
+        // when, then
+        assertThat(groupAccessCode.matches("hellO")).isFalse();
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"AZaz", "a0Z9", "aZ09", "ABCD123a", "1234"})
     void 정규식에_일치하면_성공적으로_생성된다(String code) {
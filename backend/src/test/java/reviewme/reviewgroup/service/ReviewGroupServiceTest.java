@@ -2,7 +2,6 @@ package reviewme.reviewgroup.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.times;
@@ -25,7 +24,7 @@ import reviewme.support.ServiceTest;
 class ReviewGroupServiceTest {
 
     @MockBean
-    private RandomCodeGenerator randomCodeGenerator;
+    private ReviewRequestCodeAllocator reviewRequestCodeAllocator;
 
     @Autowired
     private ReviewGroupService reviewGroupService;
@@ -34,10 +33,10 @@ class ReviewGroupServiceTest {
     private ReviewGroupRepository reviewGroupRepository;
 
     @Test
-    void 코드가_중복되는_경우_다시_생성한다() {
+    void 코드가_이미_저장된_코드와_겹치는_경우_다음_코드로_저장한다() {
         // given
         reviewGroupRepository.save(리뷰_그룹("0000", "1111"));
-        given(randomCodeGenerator.generate(anyInt()))
+        given(reviewRequestCodeAllocator.allocate())
                 .willReturn("0000") // ReviewRequestCode
                 .willReturn("AAAA");
 
@@ -48,7 +47,7 @@ class ReviewGroupServiceTest {
 
         // then
         assertThat(response).isEqualTo(new ReviewGroupCreationResponse("AAAA"));
-        then(randomCodeGenerator).should(times(2)).generate(anyInt());
+        then(reviewRequestCodeAllocator).should(times(2)).allocate();
     }
 
     @Test
@@ -68,7 +67,9 @@ class ReviewGroupServiceTest {
         // then
         assertAll(
                 () -> assertThat(expected1.hasAccess()).isTrue(),
-                () -> assertThat(expected2.hasAccess()).isFalse()
+                () -> assertThat(expected1.groupAccessToken()).isNotBlank(),
+                () -> assertThat(expected2.hasAccess()).isFalse(),
+                () -> assertThat(expected2.groupAccessToken()).isNull()
         );
     }
 }
@@ -0,0 +1,290 @@
+package reviewme.reviewgroup.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static reviewme.fixture.OptionGroupFixture.선택지_그룹;
+import static reviewme.fixture.OptionItemFixture.선택지;
+import static reviewme.fixture.QuestionFixture.서술형_필수_질문;
+import static reviewme.fixture.QuestionFixture.선택형_필수_질문;
+import static reviewme.fixture.ReviewGroupFixture.리뷰_그룹;
+import static reviewme.fixture.SectionFixture.항상_보이는_섹션;
+import static reviewme.fixture.TemplateFixture.템플릿;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import reviewme.question.domain.OptionGroup;
+import reviewme.question.domain.OptionItem;
+import reviewme.question.domain.OptionType;
+import reviewme.question.domain.Question;
+import reviewme.question.repository.OptionGroupRepository;
+import reviewme.question.repository.OptionItemRepository;
+import reviewme.question.repository.QuestionRepository;
+import reviewme.review.service.ReviewBatchRegisterService;
+import reviewme.review.service.ReviewRegisterService;
+import reviewme.review.service.dto.request.ReviewAnswerRequest;
+import reviewme.review.service.dto.request.ReviewRegisterRequest;
+import reviewme.review.service.exception.ReviewGroupUnauthorizedException;
+import reviewme.reviewgroup.domain.ReviewGroup;
+import reviewme.reviewgroup.repository.ReviewGroupRepository;
+import reviewme.reviewgroup.service.dto.GroupAccessCredential;
+import reviewme.reviewgroup.service.dto.KeywordRankingResponse;
+import reviewme.reviewgroup.service.dto.OptionSelectionResponse;
+import reviewme.reviewgroup.service.dto.ReviewGroupCreationRequest;
+import reviewme.reviewgroup.service.dto.ReviewGroupCreationResponse;
+import reviewme.reviewgroup.service.dto.ReviewGroupStatsResponse;
+import reviewme.support.ServiceTest;
+import reviewme.template.domain.Section;
+import reviewme.template.repository.SectionRepository;
+import reviewme.template.repository.TemplateRepository;
+
+@ServiceTest
+class ReviewGroupStatsServiceTest {
+
+    private static final String GROUP_ACCESS_CODE = "groupAccessCode";
+
+    @Autowired
+    private ReviewGroupStatsService reviewGroupStatsService;
+
+    @Autowired
+    private ReviewGroupService reviewGroupService;
+
+    @Autowired
+    private ReviewRegisterService reviewRegisterService;
+
+    @Autowired
+    private ReviewBatchRegisterService reviewBatchRegisterService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private OptionGroupRepository optionGroupRepository;
+
+    @Autowired
+    private OptionItemRepository optionItemRepository;
+
+    @Autowired
+    private ReviewGroupRepository reviewGroupRepository;
+
+    @Autowired
+    private SectionRepository sectionRepository;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    private ReviewGroup reviewGroup;
+    private Question categoryQuestion;
+    private Question keywordQuestion;
+    private Question textQuestion;
+    private OptionItem categoryOption1;
+    private OptionItem categoryOption2;
+    private OptionItem keywordOption;
+    private OptionItem keywordOption2;
+
+    @BeforeEach
+    void setUp() {
+        categoryQuestion = questionRepository.save(선택형_필수_질문(1));
+        keywordQuestion = questionRepository.save(선택형_필수_질문(2));
+        textQuestion = questionRepository.save(서술형_필수_질문(3));
+
+        OptionGroup categoryGroup = optionGroupRepository.save(선택지_그룹(categoryQuestion.getId()));
+        categoryOption1 = optionItemRepository.save(선택지(categoryGroup.getId(), 1));
+        categoryOption2 = optionItemRepository.save(선택지(categoryGroup.getId(), 2));
+        OptionGroup keywordGroup = optionGroupRepository.save(선택지_그룹(keywordQuestion.getId()));
+        keywordOption = optionItemRepository.save(
+                new OptionItem("키워드", keywordGroup.getId(), 1, OptionType.KEYWORD)
+        );
+        keywordOption2 = optionItemRepository.save(
+                new OptionItem("두 번째 키워드", keywordGroup.getId(), 2, OptionType.KEYWORD)
+        );
+
+        Section section = sectionRepository.save(항상_보이는_섹션(
+                List.of(categoryQuestion.getId(), keywordQuestion.getId(), textQuestion.getId())
+        ));
+        templateRepository.save(템플릿(List.of(section.getId())));
+
+        ReviewGroupCreationResponse creationResponse = reviewGroupService.createReviewGroup(
+                new ReviewGroupCreationRequest("리뷰이", "프로젝트", GROUP_ACCESS_CODE)
+        );
+        reviewGroup = reviewGroupRepository.findByReviewRequestCode(creationResponse.reviewRequestCode())
+                .orElseThrow();
+    }
+
+    @Test
+    void 리뷰를_저장할_때_갱신한_집계를_조회한다() {
+        // given
+        reviewRegisterService.registerReview(리뷰_등록_요청(List.of(categoryOption1.getId())));
+        reviewBatchRegisterService.importReviews(List.of(
+                리뷰_등록_요청(List.of(categoryOption1.getId(), categoryOption2.getId())),
+                리뷰_등록_요청(List.of(categoryOption1.getId()))
+        ));
+
+        // when
+        ReviewGroupStatsResponse response = reviewGroupStatsService.getReviewGroupStats(
+                reviewGroup.getReviewRequestCode(), GroupAccessCredential.ofGroupAccessCode(GROUP_ACCESS_CODE)
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(response.reviewCount()).isEqualTo(3),
+                () -> assertThat(response.lastReviewedAt()).isNotNull(),
+                () -> assertThat(response.categories())
+                        .extracting(OptionSelectionResponse::optionId, OptionSelectionResponse::count)
+                        .containsExactly(tuple(categoryOption1.getId(), 3L), tuple(categoryOption2.getId(), 1L)),
+                () -> assertThat(response.keywords())
+                        .extracting(OptionSelectionResponse::optionId, OptionSelectionResponse::count)
+                        .containsExactly(tuple(keywordOption.getId(), 3L), tuple(keywordOption2.getId(), 0L))
+        );
+    }
+
+    @Test
+    void 리뷰가_없는_그룹은_모든_선택지를_0_으로_응답한다() {
+        // when
+        ReviewGroupStatsResponse response = reviewGroupStatsService.getReviewGroupStats(
+                reviewGroup.getReviewRequestCode(), GroupAccessCredential.ofGroupAccessCode(GROUP_ACCESS_CODE)
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(response.reviewCount()).isZero(),
+                () -> assertThat(response.lastReviewedAt()).isNull(),
+                () -> assertThat(response.categories())
+                        .extracting(OptionSelectionResponse::count)
+                        .containsExactly(0L, 0L),
+                () -> assertThat(response.keywords())
+                        .extracting(OptionSelectionResponse::count)
+                        .containsExactly(0L, 0L)
+        );
+    }
+
+    @Test
+    void 가장_많이_선택된_키워드부터_개수만큼_조회한다() {
+        // given
+        List<Long> categoryOptionIds = List.of(categoryOption1.getId());
+        reviewRegisterService.registerReview(리뷰_등록_요청(categoryOptionIds, List.of(keywordOption2.getId())));
+        reviewRegisterService.registerReview(
+                리뷰_등록_요청(categoryOptionIds, List.of(keywordOption.getId(), keywordOption2.getId()))
+        );
+        GroupAccessCredential credential = GroupAccessCredential.ofGroupAccessCode(GROUP_ACCESS_CODE);
+
+        // when
+        KeywordRankingResponse all = reviewGroupStatsService.getTopKeywords(
+                reviewGroup.getReviewRequestCode(), credential, null
+        );
+        KeywordRankingResponse top = reviewGroupStatsService.getTopKeywords(
+                reviewGroup.getReviewRequestCode(), credential, 1
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(all.keywords())
+                        .extracting(OptionSelectionResponse::optionId, OptionSelectionResponse::count)
+                        .containsExactly(tuple(keywordOption2.getId(), 2L), tuple(keywordOption.getId(), 1L)),
+                () -> assertThat(top.keywords())
+                        .extracting(OptionSelectionResponse::content)
+                        .containsExactly("두 번째 키워드")
+        );
+    }
+
+    @Test
+    void 선택된_키워드가_없으면_빈_목록을_응답한다() {
+        // when
+        KeywordRankingResponse response = reviewGroupStatsService.getTopKeywords(
+                reviewGroup.getReviewRequestCode(), GroupAccessCredential.ofGroupAccessCode(GROUP_ACCESS_CODE), 5
+        );
+
+        // then
+        assertThat(response.keywords()).isEmpty();
+    }
+
+    @Test
+    void 그룹의_첫_리뷰들이_동시에_저장되어도_집계를_모두_더한다() throws Exception {
+        // given
+        int reviewCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(reviewCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < reviewCount; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return reviewRegisterService.registerReview(리뷰_등록_요청(List.of(categoryOption1.getId())));
+            }));
+        }
+
+        // when
+        startLatch.countDown();
+        for (Future<Long> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        // then
+        ReviewGroupStatsResponse response = reviewGroupStatsService.getReviewGroupStats(
+                reviewGroup.getReviewRequestCode(), GroupAccessCredential.ofGroupAccessCode(GROUP_ACCESS_CODE)
+        );
+        assertAll(
+                () -> assertThat(response.reviewCount()).isEqualTo(reviewCount),
+                () -> assertThat(response.categories())
+                        .extracting(OptionSelectionResponse::optionId, OptionSelectionResponse::count)
+                        .containsExactly(tuple(categoryOption1.getId(), (long) reviewCount),
+                                tuple(categoryOption2.getId(), 0L)),
+                () -> assertThat(response.keywords())
+                        .extracting(OptionSelectionResponse::optionId, OptionSelectionResponse::count)
+                        .containsExactly(tuple(keywordOption.getId(), (long) reviewCount),
+                                tuple(keywordOption2.getId(), 0L))
+        );
+    }
+
+    @Test
+    void 집계_행_없이_만든_그룹도_리뷰를_저장하면_집계를_더한다() {
+        // given
+        ReviewGroup legacyGroup = reviewGroupRepository.save(리뷰_그룹("legacyRequestCode", GROUP_ACCESS_CODE));
+        reviewRegisterService.registerReview(new ReviewRegisterRequest(legacyGroup.getReviewRequestCode(), List.of(
+                new ReviewAnswerRequest(categoryQuestion.getId(), List.of(categoryOption1.getId()), null),
+                new ReviewAnswerRequest(keywordQuestion.getId(), List.of(keywordOption.getId()), null),
+                new ReviewAnswerRequest(textQuestion.getId(), null, "답변".repeat(20))
+        )));
+
+        // when
+        ReviewGroupStatsResponse response = reviewGroupStatsService.getReviewGroupStats(
+                legacyGroup.getReviewRequestCode(), GroupAccessCredential.ofGroupAccessCode(GROUP_ACCESS_CODE)
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(response.reviewCount()).isEqualTo(1),
+                () -> assertThat(response.categories())
+                        .extracting(OptionSelectionResponse::optionId, OptionSelectionResponse::count)
+                        .containsExactly(tuple(categoryOption1.getId(), 1L), tuple(categoryOption2.getId(), 0L))
+        );
+    }
+
+    @Test
+    void 접근_코드가_일치하지_않으면_집계를_조회할_수_없다() {
+        // given, when, then
+        assertThatThrownBy(() -> reviewGroupStatsService.getReviewGroupStats(
+                reviewGroup.getReviewRequestCode(), GroupAccessCredential.ofGroupAccessCode("wrongCode")
+        )).isInstanceOf(ReviewGroupUnauthorizedException.class);
+    }
+
+    private ReviewRegisterRequest 리뷰_등록_요청(List<Long> categoryOptionIds) {
+        return 리뷰_등록_요청(categoryOptionIds, List.of(keywordOption.getId()));
+    }
+
+    private ReviewRegisterRequest 리뷰_등록_요청(List<Long> categoryOptionIds, List<Long> keywordOptionIds) {
+        return new ReviewRegisterRequest(reviewGroup.getReviewRequestCode(), List.of(
+                new ReviewAnswerRequest(categoryQuestion.getId(), categoryOptionIds, null),
+                new ReviewAnswerRequest(keywordQuestion.getId(), keywordOptionIds, null),
+                new ReviewAnswerRequest(textQuestion.getId(), null, "답변".repeat(20))
+        ));
+    }
+}
@@ -0,0 +1,112 @@
+package reviewme.reviewgroup.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import reviewme.config.properties.ReviewRequestCodeProperties;
+import reviewme.review.domain.IdSequence;
+import reviewme.review.repository.IdBlockAllocator;
+
+class ReviewRequestCodeAllocatorTest {
+
+    private final IdBlockAllocator idBlockAllocator = mock(IdBlockAllocator.class);
+    private final ReviewRequestCodeAllocator allocator = new ReviewRequestCodeAllocator(
+            idBlockAllocator, new ReviewRequestCodeProperties("secret"), new MockEnvironment()
+    );
+
+    @Test
+    void 연속된_번호로_만든_코드는_서로_다르고_8자리_영문_숫자로_이루어진다() {
+        // given
+        given(idBlockAllocator.allocate(IdSequence.REVIEW_REQUEST_CODE, IdSequence.ALLOCATION_SIZE))
+                .willReturn(1L, 101L, 201L);
+
+        // when
+        Set<String> codes = new HashSet<>();
+        IntStream.range(0, 300).forEach(i -> codes.add(allocator.allocate()));
+
+        // then
+        assertAll(
+                () -> assertThat(codes).hasSize(300),
+                () -> assertThat(codes).allMatch(code -> code.matches("[A-Za-z0-9]{8}"))
+        );
+    }
+
+    @Test
+    void 받은_번호를_모두_쓰면_다음_블록을_받는다() {
+        // given
+        given(idBlockAllocator.allocate(IdSequence.REVIEW_REQUEST_CODE, IdSequence.ALLOCATION_SIZE))
+                .willReturn(1L, 101L);
+
+        // when
+        IntStream.range(0, IdSequence.ALLOCATION_SIZE + 1).forEach(i -> allocator.allocate());
+
+        // then
+        then(idBlockAllocator).should(times(2)).allocate(IdSequence.REVIEW_REQUEST_CODE, IdSequence.ALLOCATION_SIZE);
+    }
+
+    @Test
+    void 같은_키로는_같은_번호를_같은_코드로_바꾸고_다른_키로는_다르게_바꾼다() {
+        // given
+        ReviewRequestCodeAllocator sameKey = new ReviewRequestCodeAllocator(
+                idBlockAllocator, new ReviewRequestCodeProperties("secret"), new MockEnvironment()
+        );
+        ReviewRequestCodeAllocator otherKey = new ReviewRequestCodeAllocator(
+                idBlockAllocator, new ReviewRequestCodeProperties("other-secret"), new MockEnvironment()
+        );
+
+        // when, then
+        assertAll(
+                () -> assertThat(sameKey.permute(12_345L)).isEqualTo(allocator.permute(12_345L)),
+                () -> assertThat(otherKey.permute(12_345L)).isNotEqualTo(allocator.permute(12_345L))
+        );
+    }
+
+    @Test
+    void 번호를_섞어도_코드_범위를_벗어나지_않는다() {
+        // given
+        long codeSpace = 218_340_105_584_896L;
+
+        // when, then
+        assertAll(
+                () -> assertThat(allocator.permute(0L)).isBetween(0L, codeSpace - 1),
+                () -> assertThat(allocator.permute(codeSpace - 1)).isBetween(0L, codeSpace - 1),
+                () -> assertThat(allocator.encode(0L)).isEqualTo("AAAAAAAA"),
+                () -> assertThat(allocator.encode(codeSpace - 1)).isEqualTo("99999999")
+        );
+    }
+
+    @Test
+    void 로컬과_테스트_프로필이_아니면_키_없이_만들_수_없다() {
+        // given
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("prod");
+
+        // when, then
+        assertThatThrownBy(() -> new ReviewRequestCodeAllocator(
+                idBlockAllocator, new ReviewRequestCodeProperties(""), environment
+        )).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 로컬_프로필에서는_키가_없으면_기본_키를_쓴다() {
+        // given
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("local");
+
+        // when, then
+        assertThatCode(() -> new ReviewRequestCodeAllocator(
+                idBlockAllocator, new ReviewRequestCodeProperties(null), environment
+        )).doesNotThrowAnyException();
+    }
+}
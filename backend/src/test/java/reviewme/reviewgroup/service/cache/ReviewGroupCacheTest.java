@@ -0,0 +1,84 @@
+package reviewme.reviewgroup.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static reviewme.fixture.ReviewGroupFixture.리뷰_그룹;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import reviewme.reviewgroup.repository.ReviewGroupRepository;
+
+class ReviewGroupCacheTest {
+
+    private final ReviewGroupRepository reviewGroupRepository = mock(ReviewGroupRepository.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReviewGroupCache reviewGroupCache = new ReviewGroupCache(reviewGroupRepository, meterRegistry);
+
+    @Test
+    void 한_번_조회한_리뷰_그룹은_저장소를_다시_조회하지_않는다() {
+        // given
+        given(reviewGroupRepository.findByReviewRequestCode("code"))
+                .willReturn(Optional.of(리뷰_그룹("code", "groupAccessCode")));
+
+        // when
+        Optional<ReviewGroupSnapshot> first = reviewGroupCache.findByReviewRequestCode("code");
+        Optional<ReviewGroupSnapshot> second = reviewGroupCache.findByReviewRequestCode("code");
+
+        // then
+        assertAll(
+                () -> assertThat(first).isPresent(),
+                () -> assertThat(second).containsSame(first.get()),
+                () -> assertThat(second.get().matchesGroupAccessCode("groupAccessCode")).isTrue(),
+                () -> assertThat(countGets("hit")).isEqualTo(1),
+                () -> assertThat(countGets("miss")).isEqualTo(1)
+        );
+        then(reviewGroupRepository).should(times(1)).findByReviewRequestCode("code");
+    }
+
+    @Test
+    void 없는_코드도_잠시_기억해_저장소를_다시_조회하지_않는다() {
+        // given
+        given(reviewGroupRepository.findByReviewRequestCode("unknown")).willReturn(Optional.empty());
+
+        // when
+        reviewGroupCache.findByReviewRequestCode("unknown");
+        Optional<ReviewGroupSnapshot> actual = reviewGroupCache.findByReviewRequestCode("unknown");
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEmpty(),
+                () -> assertThat(countGets("negative_hit")).isEqualTo(1)
+        );
+        then(reviewGroupRepository).should(times(1)).findByReviewRequestCode("unknown");
+    }
+
+    @Test
+    void 비운_코드는_저장소에서_다시_조회한다() {
+        // given
+        given(reviewGroupRepository.findByReviewRequestCode("code"))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(리뷰_그룹("code", "groupAccessCode")));
+        reviewGroupCache.findByReviewRequestCode("code");
+
+        // when
+        reviewGroupCache.evict("code");
+        Optional<ReviewGroupSnapshot> actual = reviewGroupCache.findByReviewRequestCode("code");
+
+        // then
+        assertThat(actual).isPresent();
+        then(reviewGroupRepository).should(times(2)).findByReviewRequestCode("code");
+    }
+
+    private double countGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
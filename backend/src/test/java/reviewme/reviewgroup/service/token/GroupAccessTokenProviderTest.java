@@ -0,0 +1,109 @@
+package reviewme.reviewgroup.service.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import reviewme.config.properties.GroupAccessTokenProperties;
+
+class GroupAccessTokenProviderTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final Instant NOW = Instant.parse("2024-08-01T12:00:00Z");
+
+    private final GroupAccessTokenProperties properties = new GroupAccessTokenProperties(
+            SECRET, Duration.ofMinutes(30)
+    );
+    private final GroupAccessTokenProvider provider = new GroupAccessTokenProvider(
+            properties, new MockEnvironment(), Clock.fixed(NOW, ZoneOffset.UTC)
+    );
+
+    @Test
+    void 발급한_그룹에_대해서만_토큰이_유효하다() {
+        // given
+        String token = provider.issue(1L);
+
+        // when, then
+        assertAll(
+                () -> assertThat(provider.isValid(token, 1L)).isTrue(),
+                () -> assertThat(provider.isValid(token, 2L)).isFalse()
+        );
+    }
+
+    @Test
+    void 만료_시각이_지난_토큰은_유효하지_않다() {
+        // given
+        String token = provider.issue(1L);
+        GroupAccessTokenProvider later = new GroupAccessTokenProvider(
+                properties, new MockEnvironment(), Clock.fixed(NOW.plus(Duration.ofMinutes(30)), ZoneOffset.UTC)
+        );
+
+        // when, then
+        assertThat(later.isValid(token, 1L)).isFalse();
+    }
+
+    @Test
+    void 다른_키로_서명한_토큰은_유효하지_않다() {
+        // given
+        byte[] otherSecret = new byte[32];
+        otherSecret[0] = 1;
+        GroupAccessTokenProvider other = new GroupAccessTokenProvider(
+                new GroupAccessTokenProperties(Base64.getEncoder().encodeToString(otherSecret), Duration.ofMinutes(30)),
+                new MockEnvironment(),
+                Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+
+        // when, then
+        assertThat(provider.isValid(other.issue(1L), 1L)).isFalse();
+    }
+
+    @Test
+    void 변조되었거나_형식이_잘못된_토큰은_유효하지_않다() {
+        // given
+        byte[] decoded = Base64.getUrlDecoder().decode(provider.issue(1L));
+        decoded[decoded.length - 1] ^= 1;
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(decoded);
+
+        // when, then
+        assertAll(
+                () -> assertThat(provider.isValid(tampered, 1L)).isFalse(),
+                () -> assertThat(provider.isValid("not a token!", 1L)).isFalse(),
+                () -> assertThat(provider.isValid("", 1L)).isFalse()
+        );
+    }
+
+    @Test
+    void 로컬과_테스트_프로필이_아니면_키_없이_만들_수_없다() {
+        // given
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("prod");
+
+        // when, then
+        assertThatThrownBy(() -> new GroupAccessTokenProvider(
+                new GroupAccessTokenProperties("", Duration.ofMinutes(30)), environment
+        )).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 로컬_프로필에서는_키가_없으면_만든_키로_발급하고_검증한다() {
+        // given
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("local");
+
+        // when
+        GroupAccessTokenProvider generated = new GroupAccessTokenProvider(
+                new GroupAccessTokenProperties(null, Duration.ofMinutes(30)), environment
+        );
+
+        // then
+        assertThat(generated.isValid(generated.issue(1L), 1L)).isTrue();
+    }
+}
@@ -8,7 +8,11 @@ import jakarta.persistence.metamodel.EntityType;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
+import reviewme.reviewgroup.service.cache.ReviewGroupCache;
+import reviewme.template.service.cache.TemplateGraphCache;
 
 public class DatabaseCleaner {
 
@@ -18,6 +22,12 @@ public class DatabaseCleaner {
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Autowired
+    private TemplateGraphCache templateGraphCache;
+
+    @Autowired
+    private ReviewGroupCache reviewGroupCache;
+
     private List<String> tableNames;
 
     @PostConstruct
@@ -38,5 +48,8 @@ public class DatabaseCleaner {
             entityManager.createNativeQuery(ALTER_FORMAT.formatted(tableName)).executeUpdate();
         }
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+        entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache().evictAllRegions();
+        templateGraphCache.invalidateAll();
+        reviewGroupCache.invalidateAll();
     }
 }
@@ -38,4 +38,18 @@ class SectionRepositoryTest {
         // then
         assertThat(actual).containsExactly(section1, section2, section3);
     }
+
+    @Test
+    void 섹션_아이디_목록으로_섹션과_질문을_함께_불러온다() {
+        // given
+        Section section1 = sectionRepository.save(항상_보이는_섹션(List.of(1L, 2L)));
+        Section section2 = sectionRepository.save(항상_보이는_섹션(List.of(3L)));
+        sectionRepository.save(항상_보이는_섹션(List.of(4L)));
+
+        // when
+        List<Section> actual = sectionRepository.findAllByIdIn(List.of(section1.getId(), section2.getId()));
+
+        // then
+        assertThat(actual).containsExactlyInAnyOrder(section1, section2);
+    }
 }
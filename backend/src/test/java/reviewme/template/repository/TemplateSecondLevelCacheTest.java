@@ -0,0 +1,84 @@
+package reviewme.template.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static reviewme.fixture.QuestionFixture.서술형_필수_질문;
+import static reviewme.fixture.SectionFixture.항상_보이는_섹션;
+import static reviewme.fixture.TemplateFixture.템플릿;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import reviewme.question.domain.Question;
+import reviewme.question.repository.QuestionRepository;
+import reviewme.support.ServiceTest;
+import reviewme.template.domain.Section;
+import reviewme.template.domain.Template;
+
+@ServiceTest
+class TemplateSecondLevelCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private SectionRepository sectionRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 한_번_조회한_템플릿은_다음_조회부터_2차_캐시에서_가져온다() {
+        // given - IDENTITY 로 저장한 엔티티는 저장할 때가 아니라 처음 조회할 때 캐시에 담긴다.
+        Question question = questionRepository.save(서술형_필수_질문());
+        Section section = sectionRepository.save(항상_보이는_섹션(List.of(question.getId())));
+        Template template = templateRepository.save(템플릿(List.of(section.getId())));
+        templateRepository.findById(template.getId());
+        sectionRepository.findById(section.getId());
+        statistics.clear();
+
+        // when
+        templateRepository.findById(template.getId());
+        sectionRepository.findById(section.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(statistics.getSecondLevelCacheHitCount()).isPositive(),
+                () -> assertThat(statistics.getEntityLoadCount()).isZero()
+        );
+    }
+
+    @Test
+    void 템플릿의_질문_목록_쿼리는_두_번째부터_쿼리_캐시에서_가져온다() {
+        // given
+        Question question = questionRepository.save(서술형_필수_질문());
+        Section section = sectionRepository.save(항상_보이는_섹션(List.of(question.getId())));
+        Template template = templateRepository.save(템플릿(List.of(section.getId())));
+        statistics.clear();
+
+        // when
+        List<Question> first = questionRepository.findAllByTemplatedId(template.getId());
+        List<Question> second = questionRepository.findAllByTemplatedId(template.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(second).isEqualTo(first),
+                () -> assertThat(statistics.getQueryCacheMissCount()).isEqualTo(1),
+                () -> assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1)
+        );
+    }
+}
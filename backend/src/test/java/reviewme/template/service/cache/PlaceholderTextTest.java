@@ -0,0 +1,54 @@
+package reviewme.template.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.Test;
+
+class PlaceholderTextTest {
+
+    @Test
+    void 모든_치환자를_대체한_문자열을_만든다() {
+        // given
+        PlaceholderText text = PlaceholderText.compileRevieweeName("{revieweeName}와 {revieweeName}의 리뷰");
+
+        // when
+        String rendered = text.render("산초");
+
+        // then
+        assertThat(rendered).isEqualTo("산초와 산초의 리뷰");
+    }
+
+    @Test
+    void 치환자가_문자열의_양_끝에_있어도_대체한다() {
+        // given
+        PlaceholderText text = PlaceholderText.compileRevieweeName("{revieweeName}{revieweeName}");
+
+        // when
+        String rendered = text.render("커비");
+
+        // then
+        assertThat(rendered).isEqualTo("커비커비");
+    }
+
+    @Test
+    void 치환자가_없으면_원본_문자열을_그대로_반환한다() {
+        // given
+        String source = "치환자가 없는 문장";
+        PlaceholderText text = PlaceholderText.compileRevieweeName(source);
+
+        // when
+        String rendered = text.render("아루");
+
+        // then
+        assertThat(rendered).isSameAs(source);
+    }
+
+    @Test
+    void 빈_문자열인지_확인한다() {
+        assertAll(
+                () -> assertThat(PlaceholderText.compileRevieweeName("").isEmpty()).isTrue(),
+                () -> assertThat(PlaceholderText.compileRevieweeName("{revieweeName}").isEmpty()).isFalse()
+        );
+    }
+}
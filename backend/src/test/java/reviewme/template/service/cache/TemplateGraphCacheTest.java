@@ -0,0 +1,103 @@
+package reviewme.template.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static reviewme.fixture.OptionGroupFixture.선택지_그룹;
+import static reviewme.fixture.OptionItemFixture.선택지;
+import static reviewme.fixture.QuestionFixture.서술형_필수_질문;
+import static reviewme.fixture.QuestionFixture.선택형_필수_질문;
+import static reviewme.fixture.SectionFixture.항상_보이는_섹션;
+import static reviewme.fixture.TemplateFixture.템플릿;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import reviewme.question.domain.OptionGroup;
+import reviewme.question.domain.OptionItem;
+import reviewme.question.domain.Question;
+import reviewme.question.repository.OptionGroupRepository;
+import reviewme.question.repository.OptionItemRepository;
+import reviewme.question.repository.QuestionRepository;
+import reviewme.support.ServiceTest;
+import reviewme.template.domain.Section;
+import reviewme.template.domain.Template;
+import reviewme.template.repository.SectionRepository;
+import reviewme.template.repository.TemplateRepository;
+
+@ServiceTest
+class TemplateGraphCacheTest {
+
+    @Autowired
+    private TemplateGraphCache templateGraphCache;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private SectionRepository sectionRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private OptionGroupRepository optionGroupRepository;
+
+    @Autowired
+    private OptionItemRepository optionItemRepository;
+
+    @Test
+    void 템플릿의_섹션_질문_옵션을_순서대로_불러온다() {
+        // given
+        Question checkBoxQuestion = questionRepository.save(선택형_필수_질문());
+        OptionGroup optionGroup = optionGroupRepository.save(선택지_그룹(checkBoxQuestion.getId()));
+        OptionItem optionItem1 = optionItemRepository.save(선택지(optionGroup.getId(), 1));
+        OptionItem optionItem2 = optionItemRepository.save(선택지(optionGroup.getId(), 2));
+        Question textQuestion = questionRepository.save(서술형_필수_질문());
+
+        Section section1 = sectionRepository.save(항상_보이는_섹션(List.of(checkBoxQuestion.getId()), 1));
+        Section section2 = sectionRepository.save(
+                항상_보이는_섹션(List.of(textQuestion.getId(), checkBoxQuestion.getId()), 2));
+        Template template = templateRepository.save(템플릿(List.of(section1.getId(), section2.getId())));
+
+        // when
+        TemplateGraph templateGraph = templateGraphCache.findTemplateGraph(template.getId()).orElseThrow();
+
+        // then
+        assertAll(
+                () -> assertThat(templateGraph.sections()).extracting(SectionNode::id)
+                        .containsExactly(section1.getId(), section2.getId()),
+                () -> assertThat(templateGraph.sections().get(1).questions()).extracting(QuestionNode::id)
+                        .containsExactly(textQuestion.getId(), checkBoxQuestion.getId()),
+                () -> assertThat(templateGraph.findQuestion(checkBoxQuestion.getId()).orElseThrow()
+                        .optionGroup().optionItems()).extracting(OptionItemNode::id)
+                        .containsExactly(optionItem1.getId(), optionItem2.getId()),
+                () -> assertThat(templateGraph.findQuestion(textQuestion.getId()).orElseThrow().optionGroup())
+                        .isNull()
+        );
+    }
+
+    @Test
+    void 저장된_템플릿이_없으면_빈_값을_반환한다() {
+        assertThat(templateGraphCache.findTemplateGraph(1L)).isEmpty();
+    }
+
+    @Test
+    void 무효화하기_전까지_같은_스냅샷을_반환한다() {
+        // given
+        Question question = questionRepository.save(서술형_필수_질문());
+        Section section = sectionRepository.save(항상_보이는_섹션(List.of(question.getId())));
+        Template template = templateRepository.save(템플릿(List.of(section.getId())));
+        TemplateGraph cached = templateGraphCache.findTemplateGraph(template.getId()).orElseThrow();
+
+        // when
+        TemplateGraph beforeInvalidation = templateGraphCache.findTemplateGraph(template.getId()).orElseThrow();
+        templateGraphCache.invalidateAll();
+        TemplateGraph afterInvalidation = templateGraphCache.findTemplateGraph(template.getId()).orElseThrow();
+
+        // then
+        assertAll(
+                () -> assertThat(beforeInvalidation).isSameAs(cached),
+                () -> assertThat(afterInvalidation).isNotSameAs(cached)
+        );
+    }
+}
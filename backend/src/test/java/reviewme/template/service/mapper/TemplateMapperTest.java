@@ -11,24 +11,30 @@ import static reviewme.fixture.ReviewGroupFixture.리뷰_그룹;
 import static reviewme.fixture.SectionFixture.항상_보이는_섹션;
 import static reviewme.fixture.TemplateFixture.템플릿;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import reviewme.question.domain.OptionGroup;
 import reviewme.question.domain.Question;
+import reviewme.question.domain.QuestionType;
 import reviewme.question.repository.OptionGroupRepository;
 import reviewme.question.repository.OptionItemRepository;
 import reviewme.question.repository.QuestionRepository;
 import reviewme.reviewgroup.domain.ReviewGroup;
 import reviewme.reviewgroup.repository.ReviewGroupRepository;
+import reviewme.reviewgroup.service.cache.ReviewGroupSnapshot;
 import reviewme.support.ServiceTest;
 import reviewme.template.domain.Section;
+import reviewme.template.domain.VisibleType;
 import reviewme.template.service.exception.MissingOptionItemsInOptionGroupException;
 import reviewme.template.service.exception.SectionInTemplateNotFoundException;
 import reviewme.template.repository.SectionRepository;
 import reviewme.template.repository.TemplateRepository;
 import reviewme.template.service.dto.response.QuestionResponse;
 import reviewme.template.service.dto.response.SectionResponse;
+import reviewme.template.service.dto.response.SerializedTemplateResponse;
 import reviewme.template.service.dto.response.TemplateResponse;
 
 @ServiceTest
@@ -55,6 +61,9 @@ class TemplateMapperTest {
     @Autowired
     private ReviewGroupRepository reviewGroupRepository;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Test
     void 리뷰_그룹과_템플릿으로_템플릿_응답을_매핑한다() {
         // given
@@ -72,7 +81,7 @@ class TemplateMapperTest {
         ReviewGroup reviewGroup = reviewGroupRepository.save(리뷰_그룹());
 
         // when
-        TemplateResponse templateResponse = templateMapper.mapToTemplateResponse(reviewGroup);
+        TemplateResponse templateResponse = templateMapper.mapToTemplateResponse(ReviewGroupSnapshot.from(reviewGroup));
 
         // then
         assertAll(
@@ -86,6 +95,94 @@ class TemplateMapperTest {
         );
     }
 
+    @Test
+    void 섹션_머릿말과_질문_본문의_리뷰이_이름을_치환한다() {
+        // given
+        Question question = questionRepository.save(
+                new Question(true, QuestionType.TEXT, "{revieweeName}의 강점은?", "{revieweeName}을 떠올려요.", 1));
+        Section section = sectionRepository.save(new Section(VisibleType.ALWAYS, List.of(question.getId()), null,
+                "섹션명", "{revieweeName}에 대한 리뷰", 1));
+        templateRepository.save(템플릿(List.of(section.getId())));
+
+        ReviewGroup reviewGroup = reviewGroupRepository.save(리뷰_그룹());
+
+        // when
+        TemplateResponse templateResponse = templateMapper.mapToTemplateResponse(ReviewGroupSnapshot.from(reviewGroup));
+
+        // then
+        SectionResponse sectionResponse = templateResponse.sections().get(0);
+        QuestionResponse questionResponse = sectionResponse.questions().get(0);
+        assertAll(
+                () -> assertThat(sectionResponse.header()).isEqualTo("revieweeName에 대한 리뷰"),
+                () -> assertThat(questionResponse.content()).isEqualTo("revieweeName의 강점은?"),
+                () -> assertThat(questionResponse.guideline()).isEqualTo("revieweeName을 떠올려요.")
+        );
+    }
+
+    @Test
+    void 같은_리뷰이에게는_미리_만들어_둔_섹션_응답을_재사용한다() {
+        // given
+        Question question = questionRepository.save(서술형_필수_질문());
+        Section section = sectionRepository.save(항상_보이는_섹션(List.of(question.getId())));
+        templateRepository.save(템플릿(List.of(section.getId())));
+
+        ReviewGroup reviewGroup1 = reviewGroupRepository.save(리뷰_그룹("code1", "accessCode1"));
+        ReviewGroup reviewGroup2 = reviewGroupRepository.save(리뷰_그룹("code2", "accessCode2"));
+
+        // when
+        TemplateResponse templateResponse1 = templateMapper.mapToTemplateResponse(
+                ReviewGroupSnapshot.from(reviewGroup1));
+        TemplateResponse templateResponse2 = templateMapper.mapToTemplateResponse(
+                ReviewGroupSnapshot.from(reviewGroup2));
+
+        // then
+        assertThat(templateResponse1.sections()).isSameAs(templateResponse2.sections());
+    }
+
+    @Test
+    void 같은_리뷰_그룹의_폼은_직렬화해_둔_응답을_재사용한다() throws IOException {
+        // given
+        Question question = questionRepository.save(서술형_필수_질문());
+        Section section = sectionRepository.save(항상_보이는_섹션(List.of(question.getId())));
+        templateRepository.save(템플릿(List.of(section.getId())));
+
+        ReviewGroupSnapshot reviewGroup = ReviewGroupSnapshot.from(reviewGroupRepository.save(리뷰_그룹()));
+
+        // when
+        SerializedTemplateResponse first = templateMapper.mapToSerializedTemplateResponse(reviewGroup);
+        SerializedTemplateResponse second = templateMapper.mapToSerializedTemplateResponse(reviewGroup);
+
+        // then
+        assertAll(
+                () -> assertThat(second).isSameAs(first),
+                () -> assertThat(first.eTag()).matches("\"[0-9a-f]{64}\""),
+                () -> assertThat(objectMapper.readValue(first.body(), TemplateResponse.class))
+                        .isEqualTo(templateMapper.mapToTemplateResponse(reviewGroup))
+        );
+    }
+
+    @Test
+    void 리뷰이가_다르면_직렬화한_응답과_ETag_도_다르다() {
+        // given
+        Question question = questionRepository.save(서술형_필수_질문());
+        Section section = sectionRepository.save(항상_보이는_섹션(List.of(question.getId())));
+        templateRepository.save(템플릿(List.of(section.getId())));
+
+        ReviewGroup reviewGroup1 = reviewGroupRepository.save(
+                new ReviewGroup("아루", "리뷰미", "code1", "accessCode1"));
+        ReviewGroup reviewGroup2 = reviewGroupRepository.save(
+                new ReviewGroup("산초", "리뷰미", "code2", "accessCode2"));
+
+        // when
+        SerializedTemplateResponse response1 = templateMapper.mapToSerializedTemplateResponse(
+                ReviewGroupSnapshot.from(reviewGroup1));
+        SerializedTemplateResponse response2 = templateMapper.mapToSerializedTemplateResponse(
+                ReviewGroupSnapshot.from(reviewGroup2));
+
+        // then
+        assertThat(response1.eTag()).isNotEqualTo(response2.eTag());
+    }
+
     @Test
     void 섹션의_선택된_옵션이_필요없는_경우_제공하지_않는다() {
         // given
@@ -96,7 +193,7 @@ class TemplateMapperTest {
         ReviewGroup reviewGroup = reviewGroupRepository.save(리뷰_그룹());
 
         // when
-        TemplateResponse templateResponse = templateMapper.mapToTemplateResponse(reviewGroup);
+        TemplateResponse templateResponse = templateMapper.mapToTemplateResponse(ReviewGroupSnapshot.from(reviewGroup));
 
         // then
         SectionResponse sectionResponse = templateResponse.sections().get(0);
@@ -113,7 +210,7 @@ class TemplateMapperTest {
         ReviewGroup reviewGroup = reviewGroupRepository.save(리뷰_그룹());
 
         // when
-        TemplateResponse templateResponse = templateMapper.mapToTemplateResponse(reviewGroup);
+        TemplateResponse templateResponse = templateMapper.mapToTemplateResponse(ReviewGroupSnapshot.from(reviewGroup));
 
         // then
         QuestionResponse questionResponse = templateResponse.sections().get(0).questions().get(0);
@@ -133,7 +230,7 @@ class TemplateMapperTest {
         ReviewGroup reviewGroup = reviewGroupRepository.save(리뷰_그룹());
 
         // when
-        TemplateResponse templateResponse = templateMapper.mapToTemplateResponse(reviewGroup);
+        TemplateResponse templateResponse = templateMapper.mapToTemplateResponse(ReviewGroupSnapshot.from(reviewGroup));
 
         // then
         QuestionResponse questionResponse = templateResponse.sections().get(0).questions().get(0);
@@ -147,7 +244,7 @@ class TemplateMapperTest {
         ReviewGroup reviewGroup = reviewGroupRepository.save(리뷰_그룹());
 
         // when, then
-        assertThatThrownBy(() -> templateMapper.mapToTemplateResponse(reviewGroup))
+        assertThatThrownBy(() -> templateMapper.mapToTemplateResponse(ReviewGroupSnapshot.from(reviewGroup)))
                 .isInstanceOf(SectionInTemplateNotFoundException.class);
     }
 
@@ -163,7 +260,7 @@ class TemplateMapperTest {
         ReviewGroup reviewGroup = reviewGroupRepository.save(리뷰_그룹());
 
         // when, then
-        assertThatThrownBy(() -> templateMapper.mapToTemplateResponse(reviewGroup))
+        assertThatThrownBy(() -> templateMapper.mapToTemplateResponse(ReviewGroupSnapshot.from(reviewGroup)))
                 .isInstanceOf(MissingOptionItemsInOptionGroupException.class);
     }
 }
@@ -0,0 +1,53 @@
+package reviewme.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.Test;
+
+class EncoderTest {
+
+    @Test
+    void SHA_256_해시를_소문자_16진수로_만든다() {
+        // when
+        String encoded = Encoder.encode("abc");
+
+        // then
+        assertThat(encoded).isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+
+    @Test
+    void 소문자_16진수를_해시_바이트로_되돌린다() {
+        // given
+        String encoded = Encoder.encode("hello");
+
+        // when
+        byte[] decoded = Encoder.decodeHexadecimal(encoded);
+
+        // then
+        assertThat(decoded).isEqualTo(Encoder.digest("hello"));
+    }
+
+    @Test
+    void 해시_바이트와_일치하는지_판단한다() {
+        // given
+        byte[] digest = Encoder.digest("hello");
+
+        // when, then
+        assertAll(
+                () -> assertThat(Encoder.matches("hello", digest)).isTrue(),
+                () -> assertThat(Encoder.matches("hellO", digest)).isFalse()
+        );
+    }
+
+    @Test
+    void 잘못된_16진수_문자열은_되돌릴_수_없다() {
+        assertAll(
+                () -> assertThatThrownBy(() -> Encoder.decodeHexadecimal("abc"))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> Encoder.decodeHexadecimal("zz"))
+                        .isInstanceOf(IllegalArgumentException.class)
+        );
+    }
+}
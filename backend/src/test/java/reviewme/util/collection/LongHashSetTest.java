@@ -0,0 +1,57 @@
+package reviewme.util.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class LongHashSetTest {
+
+    @Test
+    void 중복을_제외하고_값을_저장한다() {
+        // given
+        LongHashSet set = new LongHashSet();
+
+        // when
+        boolean first = set.add(3L);
+        boolean duplicated = set.add(3L);
+
+        // then
+        assertAll(
+                () -> assertThat(first).isTrue(),
+                () -> assertThat(duplicated).isFalse(),
+                () -> assertThat(set.size()).isEqualTo(1),
+                () -> assertThat(set.contains(3L)).isTrue(),
+                () -> assertThat(set.contains(4L)).isFalse()
+        );
+    }
+
+    @Test
+    void 빈_칸_표시로_쓰는_0도_값으로_저장한다() {
+        // given
+        LongHashSet set = LongHashSet.of(0L, 1L);
+
+        // when, then
+        assertAll(
+                () -> assertThat(set.contains(0L)).isTrue(),
+                () -> assertThat(set.toArray()).containsExactlyInAnyOrder(0L, 1L)
+        );
+    }
+
+    @Test
+    void 용량을_넘겨_저장해도_모든_값을_찾는다() {
+        // given
+        LongHashSet set = new LongHashSet();
+
+        // when
+        LongStream.rangeClosed(1, 1_000).forEach(set::add);
+
+        // then
+        assertAll(
+                () -> assertThat(set.size()).isEqualTo(1_000),
+                () -> assertThat(LongStream.rangeClosed(1, 1_000).allMatch(set::contains)).isTrue(),
+                () -> assertThat(set.contains(1_001L)).isFalse()
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package reviewme.util.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class LongObjectHashMapTest {
+
+    @Test
+    void 키로_값을_찾는다() {
+        // given
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        map.put(1L, "하나");
+        map.put(0L, "영");
+
+        // when, then
+        assertAll(
+                () -> assertThat(map.get(1L)).isEqualTo("하나"),
+                () -> assertThat(map.get(0L)).isEqualTo("영"),
+                () -> assertThat(map.get(2L)).isNull(),
+                () -> assertThat(map.containsKey(2L)).isFalse(),
+                () -> assertThat(map.keys()).containsExactlyInAnyOrder(0L, 1L)
+        );
+    }
+
+    @Test
+    void 이미_있는_키에는_값을_덮어쓰지_않는다() {
+        // given
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        map.put(1L, "처음");
+
+        // when
+        String previous = map.putIfAbsent(1L, "나중");
+
+        // then
+        assertAll(
+                () -> assertThat(previous).isEqualTo("처음"),
+                () -> assertThat(map.get(1L)).isEqualTo("처음"),
+                () -> assertThat(map.size()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 용량을_넘겨_저장해도_모든_값을_찾는다() {
+        // given
+        LongObjectHashMap<Long> map = new LongObjectHashMap<>();
+
+        // when
+        LongStream.rangeClosed(1, 1_000).forEach(key -> map.put(key, key * 10));
+
+        // then
+        assertAll(
+                () -> assertThat(map.size()).isEqualTo(1_000),
+                () -> assertThat(LongStream.rangeClosed(1, 1_000).allMatch(key -> map.get(key) == key * 10)).isTrue()
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package reviewme.util.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SortedLongArraySetTest {
+
+    @Test
+    void 값을_정렬하고_중복을_제거한다() {
+        // given
+        SortedLongArraySet set = SortedLongArraySet.of(5L, 3L, 5L, 1L);
+
+        // when, then
+        assertAll(
+                () -> assertThat(set.toArray()).containsExactly(1L, 3L, 5L),
+                () -> assertThat(set.size()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    void 촘촘한_아이디에서_포함_여부를_확인한다() {
+        // given
+        SortedLongArraySet set = SortedLongArraySet.of(100L, 101L, 103L);
+
+        // when, then
+        assertThat(List.of(99L, 100L, 101L, 102L, 103L, 164L))
+                .filteredOn(set::contains)
+                .containsExactly(100L, 101L, 103L);
+    }
+
+    @Test
+    void 흩어진_아이디에서_포함_여부를_확인한다() {
+        // given
+        SortedLongArraySet set = SortedLongArraySet.of(1L, 1_000L, Long.MAX_VALUE);
+
+        // when, then
+        assertThat(List.of(0L, 1L, 2L, 1_000L, Long.MAX_VALUE))
+                .filteredOn(set::contains)
+                .containsExactly(1L, 1_000L, Long.MAX_VALUE);
+    }
+
+    @Test
+    void 빈_집합은_어떤_값도_포함하지_않는다() {
+        // given
+        SortedLongArraySet set = SortedLongArraySet.empty();
+
+        // when, then
+        assertAll(
+                () -> assertThat(set.isEmpty()).isTrue(),
+                () -> assertThat(set.contains(0L)).isFalse()
+        );
+    }
+}